@@ -0,0 +1,195 @@
+package rx.syncano.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+/**
+ * A data class annotated with {@code @SyncanoClass} and its {@code @SyncanoField}s, including
+ * the ones inherited from its superclasses
+ */
+class ModelClass {
+
+    private final ProcessingEnvironment env;
+    private final TypeElement type;
+    private final String packageName;
+    private final String syncanoName;
+    private final List<ModelField> fields;
+
+    private ModelClass(ProcessingEnvironment env, TypeElement type, String syncanoName,
+                       List<ModelField> fields) {
+        this.env = env;
+        this.type = type;
+        this.packageName = env.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        this.syncanoName = syncanoName;
+        this.fields = fields;
+    }
+
+    static ModelClass read(ProcessingEnvironment env, TypeElement type) throws ProcessingException {
+        if(type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new ProcessingException("@SyncanoClass must not be abstract", type);
+        }
+        if(type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new ProcessingException("@SyncanoClass nested classes must be static", type);
+        }
+        if(!hasVisibleConstructor(type)) {
+            throw new ProcessingException("@SyncanoClass needs a constructor without parameters", type);
+        }
+        String packageName = env.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        List<ModelField> fields = new ArrayList<>();
+        collectFields(env, type, type, packageName, fields);
+        AnnotationMirror annotation = annotation(type, RxSyncanoProcessor.SYNCANO_CLASS);
+        return new ModelClass(env, type, stringValue(annotation, "name"), fields);
+    }
+
+    ProcessingEnvironment getEnv() {
+        return env;
+    }
+
+    TypeElement getType() {
+        return type;
+    }
+
+    String getQualifiedName() {
+        return type.getQualifiedName().toString();
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * @return name of the class on Syncano
+     */
+    String getSyncanoName() {
+        return syncanoName;
+    }
+
+    List<ModelField> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return simple name of a class generated for this data class. {@code a.b.Outer.Inner}
+     * gets {@code Outer_Inner} followed by the suffix
+     */
+    String getGeneratedName(String suffix) {
+        String name = getQualifiedName();
+        String simpleNames = packageName.isEmpty() ? name : name.substring(packageName.length() + 1);
+        return simpleNames.replace('.', '_') + suffix;
+    }
+
+    /**
+     * Adds the fields of the superclasses first, so the order is stable when subclasses add
+     * fields
+     */
+    private static void collectFields(ProcessingEnvironment env, TypeElement model, TypeElement type,
+                                      String packageName, List<ModelField> fields) throws ProcessingException {
+        TypeMirror superclass = type.getSuperclass();
+        if(superclass.getKind() == TypeKind.DECLARED) {
+            collectFields(env, model, (TypeElement) ((DeclaredType) superclass).asElement(), packageName, fields);
+        }
+        for(VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            AnnotationMirror annotation = annotation(field, RxSyncanoProcessor.SYNCANO_FIELD);
+            if(annotation == null || field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if(field.getModifiers().contains(Modifier.FINAL)) {
+                throw new ProcessingException("@SyncanoField must not be final", field);
+            }
+            String syncanoName = stringValue(annotation, "name");
+            if(syncanoName == null || syncanoName.isEmpty()) {
+                syncanoName = field.getSimpleName().toString();
+            }
+            fields.add(field(env, model, type, field, syncanoName, packageName));
+        }
+    }
+
+    private static ModelField field(ProcessingEnvironment env, TypeElement model, TypeElement owner,
+                                    VariableElement field, String syncanoName, String packageName) {
+        Set<Modifier> modifiers = field.getModifiers();
+        String ownerPackage = env.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+        boolean visible = modifiers.contains(Modifier.PUBLIC)
+                || (!modifiers.contains(Modifier.PRIVATE) && ownerPackage.equals(packageName));
+        if(visible) {
+            return new ModelField(field, syncanoName, ModelField.Access.DIRECT, null, null);
+        }
+        String name = field.getSimpleName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Types types = env.getTypeUtils();
+        String getter = null;
+        String setter = null;
+        for(ExecutableElement method : ElementFilter.methodsIn(env.getElementUtils().getAllMembers(model))) {
+            if(!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            List<? extends VariableElement> parameters = method.getParameters();
+            if(parameters.isEmpty() && types.isSameType(method.getReturnType(), field.asType())
+                    && (methodName.equals("get" + capitalized)
+                    || (methodName.equals("is" + capitalized) && field.asType().getKind() == TypeKind.BOOLEAN))) {
+                getter = methodName;
+            }
+            else if(parameters.size() == 1 && methodName.equals("set" + capitalized)
+                    && types.isSameType(parameters.get(0).asType(), field.asType())) {
+                setter = methodName;
+            }
+        }
+        if(getter != null && setter != null) {
+            return new ModelField(field, syncanoName, ModelField.Access.ACCESSORS, getter, setter);
+        }
+        return new ModelField(field, syncanoName, ModelField.Access.REFLECTION, null, null);
+    }
+
+    private static boolean hasVisibleConstructor(TypeElement type) {
+        for(Element element : type.getEnclosedElements()) {
+            if(element.getKind() == ElementKind.CONSTRUCTOR
+                    && ((ExecutableElement) element).getParameters().isEmpty()
+                    && !element.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationName) {
+        for(AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if(annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String stringValue(AnnotationMirror annotation, String name) {
+        if(annotation == null) {
+            return null;
+        }
+        for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotation.getElementValues().entrySet()) {
+            if(entry.getKey().getSimpleName().contentEquals(name)) {
+                Object value = entry.getValue().getValue();
+                return value == null ? null : value.toString();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package rx.syncano.compiler;
+
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * A {@code @SyncanoField} of a data class and how generated code reaches it
+ */
+class ModelField {
+
+    enum Access {
+        /** the field is visible from the package of the data class */
+        DIRECT,
+        /** through public getter and setter */
+        ACCESSORS,
+        /** through a java.lang.reflect.Field resolved once */
+        REFLECTION
+    }
+
+    private final VariableElement element;
+    private final String syncanoName;
+    private final Access access;
+    private final String getter;
+    private final String setter;
+
+    ModelField(VariableElement element, String syncanoName, Access access, String getter, String setter) {
+        this.element = element;
+        this.syncanoName = syncanoName;
+        this.access = access;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    VariableElement getElement() {
+        return element;
+    }
+
+    String getName() {
+        return element.getSimpleName().toString();
+    }
+
+    /**
+     * @return name of the field on Syncano
+     */
+    String getSyncanoName() {
+        return syncanoName;
+    }
+
+    TypeMirror getType() {
+        return element.asType();
+    }
+
+    Access getAccess() {
+        return access;
+    }
+
+    String getGetter() {
+        return getter;
+    }
+
+    String getSetter() {
+        return setter;
+    }
+}
@@ -0,0 +1,22 @@
+package rx.syncano.compiler;
+
+import javax.lang.model.element.Element;
+
+/**
+ * Signals an annotated element the processor can't generate code for
+ */
+class ProcessingException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Element element;
+
+    ProcessingException(String message, Element element) {
+        super(message);
+        this.element = element;
+    }
+
+    Element getElement() {
+        return element;
+    }
+}
@@ -0,0 +1,140 @@
+package rx.syncano.compiler;
+
+import java.util.List;
+import java.util.Locale;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Generates the {@code RxSyncanoQuery} of a data class: constants with the Syncano names of the
+ * class and its fields, and a builder with a typed method for each comparison Syncano supports on
+ * each field, so a typo or a wrong value type fails at compile time.
+ *
+ * Comparisons are generated for fields of the types {@code Where} accepts: Integer, Double,
+ * String and Date get eq, neq, gt, gte, lt and lte, Boolean gets eq and neq and Integer gets in.
+ * Other fields only get their name constant.
+ */
+class QueryGenerator {
+
+    static final String SUFFIX = "_RxSyncanoQuery";
+
+    private static final String[] EQUALITY = {"eq", "neq"};
+    private static final String[] COMPARISONS = {"eq", "neq", "gt", "gte", "lt", "lte"};
+
+    private final ModelClass model;
+
+    QueryGenerator(ModelClass model) {
+        this.model = model;
+    }
+
+    String generate() {
+        String modelName = model.getQualifiedName();
+        String name = model.getGeneratedName(SUFFIX);
+        List<ModelField> fields = model.getFields();
+        StringBuilder source = new StringBuilder();
+        if(!model.getPackageName().isEmpty()) {
+            source.append("package ").append(model.getPackageName()).append(";\n\n");
+        }
+        source.append("/**\n * Generated by rxsyncano-compiler from {@link ").append(modelName).append("}\n */\n")
+                .append("public final class ").append(name)
+                .append(" implements rx.syncano.RxSyncanoQuery<").append(modelName).append("> {\n\n")
+                .append("    public static final String CLASS_NAME = ").append(literal(model.getSyncanoName()))
+                .append(";\n");
+        StringBuilder names = new StringBuilder();
+        for(ModelField field : fields) {
+            String constant = constant(field);
+            source.append("    public static final String ").append(constant).append(" = ")
+                    .append(literal(field.getSyncanoName())).append(";\n");
+            names.append(names.length() == 0 ? "" : ", ").append(constant);
+        }
+        source.append("    public static final java.util.List<String> FIELDS = java.util.Collections.unmodifiableList(\n")
+                .append("            java.util.Arrays.asList(").append(names).append("));\n\n")
+                .append("    private final com.syncano.library.api.Where<").append(modelName)
+                .append("> where = new com.syncano.library.api.Where<>();\n\n")
+                .append("    public static ").append(name).append(" where() {\n")
+                .append("        return new ").append(name).append("();\n    }\n");
+
+        for(ModelField field : fields) {
+            String valueType = valueType(field.getType());
+            if(valueType == null) {
+                continue;
+            }
+            String[] operators = valueType.equals("java.lang.Boolean") ? EQUALITY : COMPARISONS;
+            for(String operator : operators) {
+                appendMethod(source, name, field, operator, valueType + " value", "value");
+            }
+            if(valueType.equals("java.lang.Integer")) {
+                appendMethod(source, name, field, "in", "java.lang.Integer... values", "values");
+            }
+        }
+
+        source.append("\n    @Override\n    public Class<").append(modelName).append("> getType() {\n")
+                .append("        return ").append(modelName).append(".class;\n    }\n\n")
+                .append("    @Override\n    public com.syncano.library.api.Where<").append(modelName)
+                .append("> getWhere() {\n        return where;\n    }\n}\n");
+        return source.toString();
+    }
+
+    private static void appendMethod(StringBuilder source, String name, ModelField field, String operator,
+                                     String parameter, String argument) {
+        String fieldName = field.getName();
+        String capitalized = Character.toUpperCase(operator.charAt(0)) + operator.substring(1);
+        source.append("\n    public ").append(name).append(' ').append(fieldName).append(capitalized)
+                .append('(').append(parameter).append(") {\n")
+                .append("        where.").append(operator).append('(').append(constant(field)).append(", ")
+                .append(argument).append(");\n")
+                .append("        return this;\n    }\n");
+    }
+
+    /**
+     * @return type of the values compared with the field, or null when Where can't compare it
+     */
+    private static String valueType(TypeMirror type) {
+        switch (type.getKind()) {
+            case INT:
+                return "java.lang.Integer";
+            case DOUBLE:
+                return "java.lang.Double";
+            case BOOLEAN:
+                return "java.lang.Boolean";
+            case DECLARED:
+                break;
+            default:
+                return null;
+        }
+        String name = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        switch (name) {
+            case "java.lang.Integer":
+            case "java.lang.Double":
+            case "java.lang.Boolean":
+            case "java.lang.String":
+            case "java.util.Date":
+                return name;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return name of the constant with the Syncano name of the field, like FIELD_UPDATED_AT for
+     * updatedAt
+     */
+    static String constant(ModelField field) {
+        String name = field.getName();
+        StringBuilder constant = new StringBuilder("FIELD_");
+        for(int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if(Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(name.charAt(i - 1))) {
+                constant.append('_');
+            }
+            constant.append(c);
+        }
+        return constant.toString().toUpperCase(Locale.US);
+    }
+
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
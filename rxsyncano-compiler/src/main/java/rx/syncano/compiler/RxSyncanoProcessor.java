@@ -0,0 +1,78 @@
+package rx.syncano.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates code for the data classes annotated with {@code @SyncanoClass}: an
+ * {@code RxSyncanoSerializer} that writes and reads their {@code @SyncanoField}s without
+ * reflection, and an {@code RxSyncanoQuery} with typed where criteria for those fields.
+ */
+public class RxSyncanoProcessor extends AbstractProcessor {
+
+    static final String SYNCANO_CLASS = "com.syncano.library.annotation.SyncanoClass";
+    static final String SYNCANO_FIELD = "com.syncano.library.annotation.SyncanoField";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(SYNCANO_CLASS);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement syncanoClass = processingEnv.getElementUtils().getTypeElement(SYNCANO_CLASS);
+        if(syncanoClass == null) {
+            return false;
+        }
+        for(Element element : roundEnv.getElementsAnnotatedWith(syncanoClass)) {
+            if(element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            try {
+                ModelClass model = ModelClass.read(processingEnv, type);
+                write(model, new SerializerGenerator(model).generate(), SerializerGenerator.SUFFIX);
+                write(model, new QueryGenerator(model).generate(), QueryGenerator.SUFFIX);
+            }
+            catch (ProcessingException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+            }
+        }
+        return false;
+    }
+
+    private void write(ModelClass model, String source, String suffix) {
+        String name = model.getGeneratedName(suffix);
+        String qualifiedName = model.getPackageName().isEmpty() ? name : model.getPackageName() + '.' + name;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, model.getType());
+            Writer writer = file.openWriter();
+            try {
+                writer.write(source);
+            }
+            finally {
+                writer.close();
+            }
+        }
+        catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write " + qualifiedName + ": " + e.getMessage(), model.getType());
+        }
+    }
+}
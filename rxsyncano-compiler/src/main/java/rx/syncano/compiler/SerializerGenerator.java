@@ -0,0 +1,248 @@
+package rx.syncano.compiler;
+
+import java.util.List;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+/**
+ * Generates the {@code RxSyncanoSerializer} of a data class.
+ *
+ * Fields are written in declaration order, superclass fields first, after an int with the
+ * schema hash. Primitives, their boxes, String, Date and enums have a binary encoding; other
+ * types are written as json by the Gson Syncano uses for the class.
+ */
+class SerializerGenerator {
+
+    static final String SUFFIX = "_RxSyncanoSerializer";
+
+    private static final String BINARY = "rx.syncano.RxSyncanoBinary";
+
+    private final ModelClass model;
+    private final Types types;
+
+    SerializerGenerator(ModelClass model) {
+        this.model = model;
+        this.types = model.getEnv().getTypeUtils();
+    }
+
+    String generate() {
+        String modelName = model.getQualifiedName();
+        List<ModelField> fields = model.getFields();
+        StringBuilder source = new StringBuilder();
+        if(!model.getPackageName().isEmpty()) {
+            source.append("package ").append(model.getPackageName()).append(";\n\n");
+        }
+        source.append("/**\n * Generated by rxsyncano-compiler from {@link ").append(modelName).append("}\n */\n")
+                .append("@SuppressWarnings(\"unchecked\")\n")
+                .append("public final class ").append(model.getGeneratedName(SUFFIX))
+                .append(" implements rx.syncano.RxSyncanoSerializer<").append(modelName).append("> {\n\n")
+                .append("    public static final int SCHEMA = ").append(schema()).append(";\n");
+
+        boolean json = false;
+        for(int i = 0; i < fields.size(); i++) {
+            ModelField field = fields.get(i);
+            if(field.getAccess() == ModelField.Access.REFLECTION) {
+                TypeElement owner = (TypeElement) field.getElement().getEnclosingElement();
+                source.append("    private static final java.lang.reflect.Field FIELD_").append(i)
+                        .append(" = ").append(BINARY).append(".field(")
+                        .append(owner.getQualifiedName()).append(".class, \"").append(field.getName())
+                        .append("\");\n");
+            }
+            if(codec(field.getType()) == null) {
+                json = true;
+                source.append("    private static final java.lang.reflect.Type TYPE_").append(i).append(" = ")
+                        .append(typeLiteral(field.getType())).append(";\n");
+            }
+        }
+        if(json) {
+            source.append("    private static final com.google.gson.Gson GSON = ").append(BINARY)
+                    .append(".gson(").append(modelName).append(".class);\n");
+        }
+
+        source.append("\n    @Override\n    public int schema() {\n        return SCHEMA;\n    }\n\n")
+                .append("    @Override\n    public void write(").append(modelName)
+                .append(" object, java.io.DataOutput out) throws java.io.IOException {\n")
+                .append("        out.writeInt(SCHEMA);\n")
+                .append("        writeFields(object, out);\n    }\n\n")
+                .append("    @Override\n    public ").append(modelName)
+                .append(" read(java.io.DataInput in) throws java.io.IOException {\n")
+                .append("        ").append(BINARY).append(".checkSchema(in, SCHEMA, ")
+                .append(modelName).append(".class);\n")
+                .append("        return readFields(in);\n    }\n\n")
+                .append("    @Override\n    public void writeFields(").append(modelName)
+                .append(" object, java.io.DataOutput out) throws java.io.IOException {\n");
+        for(int i = 0; i < fields.size(); i++) {
+            source.append("        ").append(write(fields.get(i), i)).append(";\n");
+        }
+        source.append("    }\n\n")
+                .append("    @Override\n    public ").append(modelName)
+                .append(" readFields(java.io.DataInput in) throws java.io.IOException {\n")
+                .append("        ").append(modelName).append(" object = new ").append(modelName).append("();\n");
+        for(int i = 0; i < fields.size(); i++) {
+            source.append("        ").append(assign(fields.get(i), i, read(fields.get(i), i))).append(";\n");
+        }
+        source.append("        return object;\n    }\n}\n");
+        return source.toString();
+    }
+
+    /**
+     * @return hash of the Syncano names and types of the fields, so data written before a field
+     * change is rejected instead of misread
+     */
+    private int schema() {
+        StringBuilder schema = new StringBuilder();
+        for(ModelField field : model.getFields()) {
+            schema.append(field.getSyncanoName()).append(':').append(sourceType(field.getType())).append(';');
+        }
+        return schema.toString().hashCode();
+    }
+
+    private String write(ModelField field, int index) {
+        String value = value(field, index);
+        TypeMirror type = field.getType();
+        String codec = codec(type);
+        if(codec == null) {
+            return BINARY + ".writeJson(out, GSON, " + value + ", TYPE_" + index + ")";
+        }
+        if(type.getKind().isPrimitive()) {
+            return "out.write" + codec + "(" + value + ")";
+        }
+        return BINARY + ".write" + codec + "(out, " + value + ")";
+    }
+
+    private String read(ModelField field, int index) {
+        TypeMirror type = field.getType();
+        String codec = codec(type);
+        if(codec == null) {
+            return BINARY + ".<" + sourceType(type) + ">readJson(in, GSON, TYPE_" + index + ")";
+        }
+        if(type.getKind().isPrimitive()) {
+            return "in.read" + codec + "()";
+        }
+        if(codec.equals("Enum")) {
+            return BINARY + ".readEnum(in, " + sourceType(type) + ".class)";
+        }
+        return BINARY + ".read" + codec + "(in)";
+    }
+
+    private String value(ModelField field, int index) {
+        switch (field.getAccess()) {
+            case DIRECT:
+                return "object." + field.getName();
+            case ACCESSORS:
+                return "object." + field.getGetter() + "()";
+            default:
+                return "((" + boxedType(field.getType()) + ") " + BINARY + ".get(FIELD_" + index + ", object))";
+        }
+    }
+
+    private String assign(ModelField field, int index, String value) {
+        switch (field.getAccess()) {
+            case DIRECT:
+                return "object." + field.getName() + " = " + value;
+            case ACCESSORS:
+                return "object." + field.getSetter() + "(" + value + ")";
+            default:
+                return BINARY + ".set(FIELD_" + index + ", object, " + value + ")";
+        }
+    }
+
+    /**
+     * @return suffix of the DataOutput/DataInput or RxSyncanoBinary methods that encode the
+     * type, or null when it is written as json
+     */
+    private String codec(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "Boolean";
+            case BYTE:
+                return "Byte";
+            case SHORT:
+                return "Short";
+            case CHAR:
+                return "Char";
+            case INT:
+                return "Int";
+            case LONG:
+                return "Long";
+            case FLOAT:
+                return "Float";
+            case DOUBLE:
+                return "Double";
+            case DECLARED:
+                break;
+            default:
+                return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        if(element.getKind() == ElementKind.ENUM) {
+            return "Enum";
+        }
+        switch (element.getQualifiedName().toString()) {
+            case "java.lang.String":
+                return "String";
+            case "java.lang.Boolean":
+                return "Boolean";
+            case "java.lang.Byte":
+                return "Byte";
+            case "java.lang.Short":
+                return "Short";
+            case "java.lang.Character":
+                return "Character";
+            case "java.lang.Integer":
+                return "Integer";
+            case "java.lang.Long":
+                return "Long";
+            case "java.lang.Float":
+                return "Float";
+            case "java.lang.Double":
+                return "Double";
+            case "java.util.Date":
+                return "Date";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return expression of the java.lang.reflect.Type of the field, keeping type arguments for
+     * Gson
+     */
+    private String typeLiteral(TypeMirror type) {
+        if(type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()
+                && !hasTypeVariables(type)) {
+            return "new com.google.gson.reflect.TypeToken<" + type + ">() { }.getType()";
+        }
+        return types.erasure(type) + ".class";
+    }
+
+    private boolean hasTypeVariables(TypeMirror type) {
+        if(type.getKind() == TypeKind.TYPEVAR) {
+            return true;
+        }
+        if(type.getKind() == TypeKind.DECLARED) {
+            for(TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                if(hasTypeVariables(argument)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String sourceType(TypeMirror type) {
+        return hasTypeVariables(type) ? types.erasure(type).toString() : type.toString();
+    }
+
+    private String boxedType(TypeMirror type) {
+        if(type.getKind().isPrimitive()) {
+            return types.boxedClass((javax.lang.model.type.PrimitiveType) type).getQualifiedName().toString();
+        }
+        return sourceType(type);
+    }
+}
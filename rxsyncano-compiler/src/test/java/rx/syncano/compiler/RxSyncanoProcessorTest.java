@@ -0,0 +1,286 @@
+package rx.syncano.compiler;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the processor on the fixture models, compiles the generated code with the runtime
+ * classes of rxsyncano and uses it
+ */
+public class RxSyncanoProcessorTest {
+
+    /**
+     * Sources of rxsyncano used by the generated code, set by the build. The default works when
+     * the tests run from the module directory
+     */
+    private static final File RUNTIME = new File(
+            System.getProperty("rxsyncano.runtime", "../rxsyncano/src/main/java"), "rx/syncano");
+    private static final String[] RUNTIME_CLASSES = {
+            "RxSyncanoSerializer.java", "RxSyncanoBinary.java", "RxSyncanoQuery.java",
+            "RxSyncanoSerializers.java"};
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void serializerRoundTripsEveryKindOfField() throws Exception {
+        ClassLoader loader = compile();
+        Class<?> modelClass = loader.loadClass("models.TestModel");
+        Object model = modelClass.newInstance();
+        set(model, "id", 7);
+        set(model, "revision", 3);
+        set(model, "name", "h\u00e9llo");
+        set(model, "count", 42);
+        set(model, "flag", true);
+        set(model, "color", loader.loadClass("models.TestModel$Color").getEnumConstants()[1]);
+        set(model, "created", new Date(123456789L));
+        set(model, "tags", Arrays.asList("a", "b"));
+        set(model, "bigNumber", Long.MAX_VALUE);
+
+        Object copy = read(loader, write(loader, model));
+
+        for(String field : Arrays.asList("id", "revision", "updatedAt", "name", "count", "flag",
+                "color", "score", "created", "tags", "bigNumber")) {
+            assertEquals(field, get(model, field), get(copy, field));
+        }
+        assertNull(get(copy, "score"));
+    }
+
+    @Test
+    public void serializerRejectsDataOfAnotherSchema() throws Exception {
+        ClassLoader loader = compile();
+        Object model = loader.loadClass("models.TestModel").newInstance();
+        byte[] bytes = write(loader, model);
+        bytes[0] ^= 1;
+
+        try {
+            read(loader, bytes);
+            fail("read data of another schema");
+        }
+        catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("another schema"));
+        }
+    }
+
+    @Test
+    public void fieldsAreWrittenWithoutTheSchema() throws Exception {
+        ClassLoader loader = compile();
+        Object model = loader.loadClass("models.TestModel").newInstance();
+        set(model, "name", "fields");
+        set(model, "bigNumber", 5L);
+        Object serializer = serializer(loader);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        method(serializer, "writeFields").invoke(serializer, model, new DataOutputStream(bytes));
+
+        assertEquals(write(loader, model).length - 4, bytes.size());
+        Object copy = method(serializer, "readFields").invoke(serializer,
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals("fields", get(copy, "name"));
+        assertEquals(5L, get(copy, "bigNumber"));
+    }
+
+    @Test
+    public void subclassesAreWrittenWithTheSerializerOfTheDataClass() throws Exception {
+        File source = new File(folder.newFolder("models"), "TestModelProxy.java");
+        Files.write(source.toPath(), ("package models;\n"
+                + "public class TestModelProxy extends TestModel { }\n")
+                .getBytes(Charset.forName("UTF-8")));
+        ClassLoader loader = compile(source);
+        Object proxy = loader.loadClass("models.TestModelProxy").newInstance();
+        set(proxy, "name", "proxied");
+        Class<?> serializers = loader.loadClass("rx.syncano.RxSyncanoSerializers");
+
+        byte[] bytes = (byte[]) serializers.getMethod("toBytes", Object.class).invoke(null, proxy);
+        Object copy = serializers.getMethod("fromBytes", Class.class, byte[].class)
+                .invoke(null, loader.loadClass("models.TestModel"), bytes);
+        assertEquals("proxied", get(copy, "name"));
+    }
+
+    @Test
+    public void queryHasTheSyncanoNamesAndTypedCriteria() throws Exception {
+        ClassLoader loader = compile();
+        Class<?> query = loader.loadClass("models.TestModel_RxSyncanoQuery");
+
+        assertEquals("test_model", query.getField("CLASS_NAME").get(null));
+        assertEquals("big_number", query.getField("FIELD_BIG_NUMBER").get(null));
+        Object where = query.getMethod("where").invoke(null);
+        query.getMethod("nameEq", String.class).invoke(where, "x");
+        query.getMethod("countGt", Integer.class).invoke(where, 3);
+        query.getMethod("idIn", Integer[].class).invoke(where, (Object) new Integer[]{1, 2});
+        assertEquals("name eq x;count gt 3;id in [1, 2];",
+                query.getMethod("getWhere").invoke(where).toString());
+        assertEquals(loader.loadClass("models.TestModel"), query.getMethod("getType").invoke(where));
+    }
+
+    @Test
+    public void reportsClassesItCannotGenerateFor() throws Exception {
+        File source = new File(folder.newFolder("invalid"), "Invalid.java");
+        Files.write(source.toPath(), ("import com.syncano.library.annotation.SyncanoClass;\n"
+                + "@SyncanoClass(name = \"invalid\")\n"
+                + "public abstract class Invalid extends com.syncano.library.data.SyncanoObject { }\n")
+                .getBytes(Charset.forName("UTF-8")));
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        assertFalse(run(Arrays.asList(source), diagnostics));
+        assertTrue(messages(diagnostics).contains("@SyncanoClass must not be abstract"));
+    }
+
+    private ClassLoader compile(File... extraSources) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<File> sources = new ArrayList<>();
+        sources.add(new File(fixtures(), "models/TestModel.java"));
+        sources.addAll(Arrays.asList(extraSources));
+        boolean compiled = run(sources, diagnostics);
+        assertTrue(messages(diagnostics), compiled);
+        return new URLClassLoader(new URL[]{classes().toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    /**
+     * Compiles the sources with the processor, the fixtures and the runtime classes of rxsyncano
+     */
+    private boolean run(List<File> sources, DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+        List<File> files = new ArrayList<>(sources);
+        collect(new File(fixtures(), "com"), files);
+        for(String runtimeClass : RUNTIME_CLASSES) {
+            files.add(new File(RUNTIME, runtimeClass));
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, Charset.forName("UTF-8"));
+        try {
+            List<String> options = Arrays.asList("-d", classes().getPath(),
+                    "-s", folder.getRoot().getPath(),
+                    "-classpath", System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(Arrays.asList(new RxSyncanoProcessor()));
+            return task.call();
+        }
+        finally {
+            fileManager.close();
+        }
+    }
+
+    private File classes() {
+        File classes = new File(folder.getRoot(), "classes");
+        classes.mkdirs();
+        return classes;
+    }
+
+    private static File fixtures() {
+        try {
+            return new File(RxSyncanoProcessorTest.class.getResource("/fixtures").toURI());
+        }
+        catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void collect(File directory, List<File> files) {
+        File[] children = directory.listFiles();
+        if(children == null) {
+            return;
+        }
+        for(File child : children) {
+            if(child.isDirectory()) {
+                collect(child, files);
+            }
+            else if(child.getName().endsWith(".java")) {
+                files.add(child);
+            }
+        }
+    }
+
+    private static String messages(DiagnosticCollector<JavaFileObject> diagnostics) {
+        StringBuilder messages = new StringBuilder();
+        for(Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            messages.append(diagnostic).append('\n');
+        }
+        return messages.toString();
+    }
+
+    private static Object serializer(ClassLoader loader) throws Exception {
+        return loader.loadClass("models.TestModel_RxSyncanoSerializer").newInstance();
+    }
+
+    private static byte[] write(ClassLoader loader, Object model) throws Exception {
+        Object serializer = serializer(loader);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        method(serializer, "write").invoke(serializer, model, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static Object read(ClassLoader loader, byte[] bytes) throws Exception {
+        Object serializer = serializer(loader);
+        try {
+            return method(serializer, "read").invoke(serializer,
+                    new DataInputStream(new ByteArrayInputStream(bytes)));
+        }
+        catch (java.lang.reflect.InvocationTargetException e) {
+            if(e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Method method(Object object, String name) {
+        for(Method method : object.getClass().getMethods()) {
+            if(method.getName().equals(name) && !method.isBridge()) {
+                return method;
+            }
+        }
+        throw new AssertionError("no method " + name);
+    }
+
+    private static Object get(Object object, String name) throws Exception {
+        return field(object.getClass(), name).get(object);
+    }
+
+    private static void set(Object object, String name, Object value) throws Exception {
+        field(object.getClass(), name).set(object, value);
+    }
+
+    private static Field field(Class<?> clazz, String name) throws NoSuchFieldException {
+        for(Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            }
+            catch (NoSuchFieldException e) {
+                // declared in a superclass
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+}
@@ -0,0 +1,49 @@
+package com.syncano.library.api;
+
+import java.util.Arrays;
+
+/**
+ * Test double of the Syncano criteria, whose toString lists the criteria added
+ */
+public class Where<T> {
+
+    private final StringBuilder criteria = new StringBuilder();
+
+    public Where<T> eq(String field, Object value) {
+        return add(field, "eq", value);
+    }
+
+    public Where<T> neq(String field, Object value) {
+        return add(field, "neq", value);
+    }
+
+    public Where<T> gt(String field, Object value) {
+        return add(field, "gt", value);
+    }
+
+    public Where<T> gte(String field, Object value) {
+        return add(field, "gte", value);
+    }
+
+    public Where<T> lt(String field, Object value) {
+        return add(field, "lt", value);
+    }
+
+    public Where<T> lte(String field, Object value) {
+        return add(field, "lte", value);
+    }
+
+    public Where<T> in(String field, Integer[] values) {
+        return add(field, "in", Arrays.toString(values));
+    }
+
+    private Where<T> add(String field, String operator, Object value) {
+        criteria.append(field).append(' ').append(operator).append(' ').append(value).append(';');
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return criteria.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.syncano.library.data;
+
+import com.syncano.library.annotation.SyncanoField;
+
+import java.util.Date;
+
+/**
+ * Test double of the Syncano data object, with a field without setter like the real one
+ */
+public abstract class SyncanoObject {
+
+    @SyncanoField(name = "id", readOnly = true)
+    private Integer id;
+
+    @SyncanoField(name = "revision", readOnly = true)
+    private Integer revision;
+
+    @SyncanoField(name = "updated_at", readOnly = true)
+    private Date updatedAt;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getRevision() {
+        return revision;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+}
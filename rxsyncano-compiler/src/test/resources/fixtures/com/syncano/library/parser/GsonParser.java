@@ -0,0 +1,13 @@
+package com.syncano.library.parser;
+
+import com.google.gson.Gson;
+
+/**
+ * Test double of the Syncano parser
+ */
+public class GsonParser {
+
+    public static Gson createGson(Class<?> clazz) {
+        return new Gson();
+    }
+}
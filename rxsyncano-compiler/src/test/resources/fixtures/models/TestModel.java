@@ -0,0 +1,92 @@
+package models;
+
+import com.syncano.library.annotation.SyncanoClass;
+import com.syncano.library.annotation.SyncanoField;
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Model with a field of each kind the serializer handles: accessors, direct access, reflection,
+ * binary encodings and json
+ */
+@SyncanoClass(name = TestModel.CLASS_NAME)
+public class TestModel extends SyncanoObject {
+
+    public static final String CLASS_NAME = "test_model";
+
+    public enum Color { RED, BLUE }
+
+    @SyncanoField(name = "name")
+    private String name;
+
+    @SyncanoField(name = "count")
+    int count;
+
+    @SyncanoField(name = "flag")
+    private boolean flag;
+
+    @SyncanoField(name = "color")
+    private Color color;
+
+    @SyncanoField(name = "score")
+    private Double score;
+
+    @SyncanoField(name = "created")
+    private Date created;
+
+    @SyncanoField(name = "tags")
+    private List<String> tags;
+
+    @SyncanoField(name = "big_number")
+    private long bigNumber;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isFlag() {
+        return flag;
+    }
+
+    public void setFlag(boolean flag) {
+        this.flag = flag;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public void setColor(Color color) {
+        this.color = color;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public Date getCreated() {
+        return created;
+    }
+
+    public void setCreated(Date created) {
+        this.created = created;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,208 @@
+package rx.syncano;
+
+import com.google.gson.Gson;
+import com.syncano.library.parser.GsonParser;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Date;
+
+/**
+ * Encodes the values of the fields written by the generated {@link RxSyncanoSerializer}s. Every
+ * nullable value is preceded by a presence byte.
+ *
+ * It is only meant to be used by generated code.
+ */
+public final class RxSyncanoBinary {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    public static void checkSchema(DataInput in, int schema, Class<?> clazz) throws IOException {
+        int written = in.readInt();
+        if(written != schema) {
+            throw new IOException("Data of " + clazz.getName() + " written with another schema");
+        }
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        if(value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if(length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    public static void writeBoolean(DataOutput out, Boolean value) throws IOException {
+        out.writeByte(value == null ? -1 : value ? 1 : 0);
+    }
+
+    public static Boolean readBoolean(DataInput in) throws IOException {
+        byte value = in.readByte();
+        return value < 0 ? null : value == 1;
+    }
+
+    public static void writeInteger(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if(value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    public static Integer readInteger(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    public static void writeLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if(value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    public static Long readLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    public static void writeShort(DataOutput out, Short value) throws IOException {
+        out.writeBoolean(value != null);
+        if(value != null) {
+            out.writeShort(value);
+        }
+    }
+
+    public static Short readShort(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readShort() : null;
+    }
+
+    public static void writeByte(DataOutput out, Byte value) throws IOException {
+        out.writeBoolean(value != null);
+        if(value != null) {
+            out.writeByte(value);
+        }
+    }
+
+    public static Byte readByte(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readByte() : null;
+    }
+
+    public static void writeCharacter(DataOutput out, Character value) throws IOException {
+        out.writeBoolean(value != null);
+        if(value != null) {
+            out.writeChar(value);
+        }
+    }
+
+    public static Character readCharacter(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readChar() : null;
+    }
+
+    public static void writeFloat(DataOutput out, Float value) throws IOException {
+        out.writeBoolean(value != null);
+        if(value != null) {
+            out.writeFloat(value);
+        }
+    }
+
+    public static Float readFloat(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readFloat() : null;
+    }
+
+    public static void writeDouble(DataOutput out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if(value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    public static Double readDouble(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+
+    public static void writeDate(DataOutput out, Date value) throws IOException {
+        writeLong(out, value == null ? null : value.getTime());
+    }
+
+    public static Date readDate(DataInput in) throws IOException {
+        Long time = readLong(in);
+        return time == null ? null : new Date(time);
+    }
+
+    public static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        writeString(out, value == null ? null : value.name());
+    }
+
+    public static <E extends Enum<E>> E readEnum(DataInput in, Class<E> clazz) throws IOException {
+        String name = readString(in);
+        return name == null ? null : Enum.valueOf(clazz, name);
+    }
+
+    /**
+     * @return Gson with the Syncano rules for the fields of the data class, used for the field
+     * types without a binary encoding
+     */
+    public static Gson gson(Class<?> clazz) {
+        return GsonParser.createGson(clazz);
+    }
+
+    public static void writeJson(DataOutput out, Gson gson, Object value, Type type) throws IOException {
+        writeString(out, value == null ? null : gson.toJson(value, type));
+    }
+
+    public static <T> T readJson(DataInput in, Gson gson, Type type) throws IOException {
+        String json = readString(in);
+        return json == null ? null : gson.<T>fromJson(json, type);
+    }
+
+    /**
+     * @return the field, accessible, for the fields without accessible accessors. It is resolved
+     * once per generated serializer
+     */
+    public static Field field(Class<?> clazz, String name) {
+        try {
+            Field field = clazz.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        }
+        catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static Object get(Field field, Object object) {
+        try {
+            return field.get(object);
+        }
+        catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void set(Field field, Object object, Object value) {
+        try {
+            field.set(object, value);
+        }
+        catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private RxSyncanoBinary() {
+        // disable instances
+    }
+}
@@ -0,0 +1,91 @@
+package rx.syncano;
+
+/**
+ * Change on a result set of data objects, emitted by live queries and by {@link RxSyncanoDiff}
+ *
+ * @param <T> type of the data objects
+ */
+public final class RxSyncanoChange<T> {
+
+    public enum Type {
+        /**
+         * Object inserted at {@link #getPosition()}
+         */
+        INSERTED,
+        /**
+         * Object removed from {@link #getPosition()}
+         */
+        REMOVED,
+        /**
+         * Object at {@link #getPosition()} replaced by a new version
+         */
+        CHANGED,
+        /**
+         * Object moved from {@link #getFromPosition()} to {@link #getPosition()}. The position
+         * is counted after the object is removed from its previous position
+         */
+        MOVED
+    }
+
+    private final Type type;
+    private final int fromPosition;
+    private final int position;
+    private final T object;
+
+    private RxSyncanoChange(Type type, int fromPosition, int position, T object) {
+        this.type = type;
+        this.fromPosition = fromPosition;
+        this.position = position;
+        this.object = object;
+    }
+
+    static <T> RxSyncanoChange<T> inserted(int position, T object) {
+        return new RxSyncanoChange<>(Type.INSERTED, position, position, object);
+    }
+
+    static <T> RxSyncanoChange<T> removed(int position, T object) {
+        return new RxSyncanoChange<>(Type.REMOVED, position, position, object);
+    }
+
+    static <T> RxSyncanoChange<T> changed(int position, T object) {
+        return new RxSyncanoChange<>(Type.CHANGED, position, position, object);
+    }
+
+    static <T> RxSyncanoChange<T> moved(int fromPosition, int position, T object) {
+        return new RxSyncanoChange<>(Type.MOVED, fromPosition, position, object);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return previous position of a moved object. For other changes it is the same as
+     * {@link #getPosition()}
+     */
+    public int getFromPosition() {
+        return fromPosition;
+    }
+
+    /**
+     * @return position of the object on the result set after the previous changes were applied
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return object inserted, removed or the new version of the changed object
+     */
+    public T getObject() {
+        return object;
+    }
+
+    @Override
+    public String toString() {
+        if(type == Type.MOVED) {
+            return type + "(" + fromPosition + " -> " + position + ", " + object + ")";
+        }
+        return type + "(" + position + ", " + object + ")";
+    }
+}
@@ -0,0 +1,96 @@
+package rx.syncano;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+
+/**
+ * Emits a text as consecutive chunks, only as many as the subscriber requested. Chunks are
+ * read-only views of the text, so no characters are copied. The text is already in memory, this
+ * only re-chunks it
+ */
+final class RxSyncanoChunks implements Observable.OnSubscribe<CharSequence> {
+
+    private final CharSequence text;
+    private final int chunkSize;
+
+    RxSyncanoChunks(CharSequence text, int chunkSize) {
+        if(chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.text = text;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void call(Subscriber<? super CharSequence> subscriber) {
+        subscriber.setProducer(new ChunkProducer(subscriber, text, chunkSize));
+    }
+
+    private static final class ChunkProducer extends AtomicLong implements Producer {
+
+        private final Subscriber<? super CharSequence> subscriber;
+        private final CharSequence text;
+        private final int chunkSize;
+        private int position;
+
+        ChunkProducer(Subscriber<? super CharSequence> subscriber, CharSequence text, int chunkSize) {
+            this.subscriber = subscriber;
+            this.text = text;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void request(long n) {
+            if(n <= 0) {
+                return;
+            }
+            long current;
+            long next;
+            do {
+                current = get();
+                if(current == Long.MAX_VALUE) {
+                    return;
+                }
+                next = current + n;
+                if(next < 0) {
+                    next = Long.MAX_VALUE;
+                }
+            } while (!compareAndSet(current, next));
+            if(current != 0) {
+                // already emitting, the loop below picks up the new requests
+                return;
+            }
+            emit(next);
+        }
+
+        private void emit(long requested) {
+            int length = text.length();
+            while (true) {
+                long emitted = 0;
+                while (emitted < requested && position < length) {
+                    if(subscriber.isUnsubscribed()) {
+                        return;
+                    }
+                    int end = Math.min(position + chunkSize, length);
+                    subscriber.onNext(CharBuffer.wrap(text, position, end).asReadOnlyBuffer());
+                    position = end;
+                    emitted++;
+                }
+                if(position >= length) {
+                    if(!subscriber.isUnsubscribed()) {
+                        subscriber.onCompleted();
+                    }
+                    return;
+                }
+                requested = addAndGet(-emitted);
+                if(requested == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
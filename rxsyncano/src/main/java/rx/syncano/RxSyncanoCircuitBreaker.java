@@ -0,0 +1,290 @@
+package rx.syncano;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import rx.Observable;
+import rx.functions.Func0;
+import rx.subjects.BehaviorSubject;
+
+/**
+ * Stops sending requests to an operation that keeps failing, so callers fail fast instead of
+ * waiting for timeouts and the backend gets time to recover.
+ *
+ * The breaker measures the outcome of the last requests sent through {@link #call(Func0)}.
+ * Network errors, HTTP 429 and 5xx count as failures, other {@link RxSyncanoException}s count
+ * as successes because they are caused by the request itself. Requests slower than the slow call
+ * duration count as slow. When the failure or slow ratio reaches its threshold the breaker opens
+ * and requests fail with {@link RxSyncanoCircuitOpenException} without being sent. After the open
+ * duration a few probe requests are let through: if all succeed the breaker closes, otherwise
+ * it opens again.
+ *
+ * Breakers for each class or endpoint are usually kept by {@link RxSyncanoCircuitBreakers}.
+ */
+public class RxSyncanoCircuitBreaker {
+
+    public enum State {
+        /** requests are sent and measured */
+        CLOSED,
+        /** requests fail without being sent */
+        OPEN,
+        /** a few probe requests are sent to check if the operation recovered */
+        HALF_OPEN
+    }
+
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+    public static final int DEFAULT_MIN_CALLS = 10;
+    public static final double DEFAULT_FAILURE_RATIO = 0.5;
+    public static final double DEFAULT_SLOW_RATIO = 0.8;
+    public static final long DEFAULT_SLOW_CALL_MILLIS = 5000;
+    public static final long DEFAULT_OPEN_MILLIS = 30000;
+    public static final int DEFAULT_PROBES = 3;
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final BehaviorSubject<State> states = BehaviorSubject.create(State.CLOSED);
+    private byte[] outcomes = new byte[DEFAULT_WINDOW_SIZE];
+    private int minCalls = DEFAULT_MIN_CALLS;
+    private double failureRatio = DEFAULT_FAILURE_RATIO;
+    private double slowRatio = DEFAULT_SLOW_RATIO;
+    private long slowCallNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_CALL_MILLIS);
+    private long openNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_OPEN_MILLIS);
+    private int probes = DEFAULT_PROBES;
+
+    private State state = State.CLOSED;
+    private int calls;
+    private int nextOutcome;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+    private final Queue<State> changes = new ArrayDeque<>();
+    private boolean emittingChanges;
+
+    /**
+     * @param name identifies the operation protected by the breaker
+     */
+    public RxSyncanoCircuitBreaker(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param windowSize number of last requests measured
+     * @param minCalls requests measured before the breaker may open
+     * @return this breaker
+     */
+    public synchronized RxSyncanoCircuitBreaker setWindow(int windowSize, int minCalls) {
+        if(windowSize < 1 || minCalls < 1 || minCalls > windowSize) {
+            throw new IllegalArgumentException("minCalls must be between 1 and windowSize");
+        }
+        outcomes = new byte[windowSize];
+        this.minCalls = minCalls;
+        resetWindow();
+        return this;
+    }
+
+    /**
+     * @param failureRatio ratio of failed requests in the window that opens the breaker
+     * @return this breaker
+     */
+    public synchronized RxSyncanoCircuitBreaker setFailureRatio(double failureRatio) {
+        this.failureRatio = failureRatio;
+        return this;
+    }
+
+    /**
+     * @param slowRatio ratio of slow requests in the window that opens the breaker
+     * @param slowCall duration after which a request is slow
+     * @param unit unit of slowCall
+     * @return this breaker
+     */
+    public synchronized RxSyncanoCircuitBreaker setSlowCalls(double slowRatio, long slowCall, TimeUnit unit) {
+        this.slowRatio = slowRatio;
+        slowCallNanos = unit.toNanos(slowCall);
+        return this;
+    }
+
+    /**
+     * @param open how long the breaker stays open before probing
+     * @param unit unit of open
+     * @param probes requests sent while half open, all must succeed to close the breaker
+     * @return this breaker
+     */
+    public synchronized RxSyncanoCircuitBreaker setRecovery(long open, TimeUnit unit, int probes) {
+        if(probes < 1) {
+            throw new IllegalArgumentException("probes must be positive");
+        }
+        openNanos = unit.toNanos(open);
+        this.probes = probes;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return an Observable that emits the current state and every change of it
+     */
+    public Observable<State> observeState() {
+        return states.asObservable();
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will send the request
+     * if the breaker allows it and measure its outcome, or fail with
+     * {@link RxSyncanoCircuitOpenException} otherwise
+     *
+     * @param request creates the Observable of the request
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <T> Observable<T> call(Func0<Observable<T>> request) {
+        return Observable.defer(() -> {
+            boolean acquired = tryAcquire();
+            emitChanges();
+            if(!acquired) {
+                return Observable.error(new RxSyncanoCircuitOpenException(name));
+            }
+            long startedAt = System.nanoTime();
+            AtomicBoolean finished = new AtomicBoolean();
+            return Observable.defer(request::call)
+                    .doOnCompleted(() -> {
+                        if(finished.compareAndSet(false, true)) {
+                            onFinished(false, System.nanoTime() - startedAt);
+                            emitChanges();
+                        }
+                    })
+                    .doOnError(throwable -> {
+                        if(finished.compareAndSet(false, true)) {
+                            onFinished(RxSyncanoRetry.isTransient(throwable), System.nanoTime() - startedAt);
+                            emitChanges();
+                        }
+                    })
+                    .doOnUnsubscribe(() -> {
+                        if(finished.compareAndSet(false, true)) {
+                            onAbandoned();
+                        }
+                    });
+        });
+    }
+
+    private synchronized boolean tryAcquire() {
+        if(state == State.OPEN) {
+            if(System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            probesStarted = 0;
+            probesSucceeded = 0;
+            transition(State.HALF_OPEN);
+        }
+        if(state == State.HALF_OPEN) {
+            if(probesStarted >= probes) {
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    private synchronized void onFinished(boolean failed, long durationNanos) {
+        byte outcome = failed ? FAILURE : durationNanos >= slowCallNanos ? SLOW : SUCCESS;
+        if(state == State.HALF_OPEN) {
+            if(outcome != SUCCESS) {
+                open();
+            }
+            else if(++probesSucceeded >= probes) {
+                resetWindow();
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if(state == State.OPEN) {
+            // sent before the breaker opened
+            return;
+        }
+        outcomes[nextOutcome] = outcome;
+        nextOutcome = (nextOutcome + 1) % outcomes.length;
+        calls = Math.min(calls + 1, outcomes.length);
+        if(calls >= minCalls && shouldOpen()) {
+            open();
+        }
+    }
+
+    /**
+     * A probe whose subscriber unsubscribed before the outcome lets another probe be sent
+     */
+    private synchronized void onAbandoned() {
+        if(state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+            probesStarted--;
+        }
+    }
+
+    private boolean shouldOpen() {
+        int failures = 0;
+        int slow = 0;
+        for(int i = 0; i < calls; i++) {
+            if(outcomes[i] == FAILURE) {
+                failures++;
+            }
+            else if(outcomes[i] == SLOW) {
+                slow++;
+            }
+        }
+        return failures >= failureRatio * calls || slow >= slowRatio * calls;
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        resetWindow();
+        transition(State.OPEN);
+    }
+
+    private void resetWindow() {
+        calls = 0;
+        nextOutcome = 0;
+    }
+
+    /**
+     * Changes the state, holding the lock. The change is emitted by {@link #emitChanges()} once
+     * the lock is released, so subscribers of {@link #observeState()} never run inside it
+     */
+    private void transition(State newState) {
+        if(state != newState) {
+            state = newState;
+            changes.add(newState);
+        }
+    }
+
+    /**
+     * Emits the pending state changes in order, from one thread at a time
+     */
+    private void emitChanges() {
+        synchronized (this) {
+            if(emittingChanges) {
+                return;
+            }
+            emittingChanges = true;
+        }
+        while (true) {
+            State next;
+            synchronized (this) {
+                next = changes.poll();
+                if(next == null) {
+                    emittingChanges = false;
+                    return;
+                }
+            }
+            states.onNext(next);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package rx.syncano;
+
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import rx.Observable;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.subjects.PublishSubject;
+import rx.subjects.SerializedSubject;
+import rx.subjects.Subject;
+
+/**
+ * Keeps one {@link RxSyncanoCircuitBreaker} per operation and Syncano class or endpoint, so a
+ * failing class or script endpoint doesn't stop the requests to the others.
+ *
+ * <pre>
+ *     RxSyncanoCircuitBreakers breakers = new RxSyncanoCircuitBreakers();
+ *     breakers.call("getObject", MyClass.class, () -&gt; SyncanoObservable.getObject(syncano, MyClass.class, id));
+ *     breakers.call("run", "report", () -&gt; SyncanoObservable.run(reportEndpoint));
+ * </pre>
+ */
+public class RxSyncanoCircuitBreakers {
+
+    private final Func1<String, RxSyncanoCircuitBreaker> factory;
+    private final Map<String, RxSyncanoCircuitBreaker> breakers = new HashMap<>();
+    private final Subject<RxSyncanoCircuitBreaker, RxSyncanoCircuitBreaker> changes =
+            new SerializedSubject<>(PublishSubject.<RxSyncanoCircuitBreaker>create());
+
+    /**
+     * Creates breakers with the default configuration
+     */
+    public RxSyncanoCircuitBreakers() {
+        this(RxSyncanoCircuitBreaker::new);
+    }
+
+    /**
+     * @param factory creates and configures the breaker for the given name
+     */
+    public RxSyncanoCircuitBreakers(Func1<String, RxSyncanoCircuitBreaker> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @param operation name of the operation, like get or save
+     * @param target name of the class or endpoint
+     * @return breaker of the operation on the target, created on first use
+     */
+    public RxSyncanoCircuitBreaker get(String operation, String target) {
+        String name = operation + ':' + target;
+        synchronized (breakers) {
+            RxSyncanoCircuitBreaker breaker = breakers.get(name);
+            if(breaker == null) {
+                breaker = factory.call(name);
+                breakers.put(name, breaker);
+                RxSyncanoCircuitBreaker changed = breaker;
+                breaker.observeState().skip(1).subscribe(state -> changes.onNext(changed));
+            }
+            return breaker;
+        }
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will send the request
+     * through the breaker of the operation on the Syncano class
+     *
+     * @param operation name of the operation, like get or save
+     * @param clazz Syncano class of the request
+     * @param request creates the Observable of the request
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <T> Observable<T> call(String operation, Class<? extends SyncanoObject> clazz,
+                                  Func0<Observable<T>> request) {
+        return call(operation, clazz.getName(), request);
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will send the request
+     * through the breaker of the operation on the endpoint
+     *
+     * @param operation name of the operation, like script or data
+     * @param endpoint name of the endpoint of the request
+     * @param request creates the Observable of the request
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <T> Observable<T> call(String operation, String endpoint, Func0<Observable<T>> request) {
+        return Observable.defer(() -> get(operation, endpoint).call(request));
+    }
+
+    /**
+     * @return an Observable that emits a breaker every time its state changes
+     */
+    public Observable<RxSyncanoCircuitBreaker> observeStateChanges() {
+        return changes.asObservable();
+    }
+}
@@ -0,0 +1,22 @@
+package rx.syncano;
+
+/**
+ * Signals that a request was not sent because its circuit breaker is open, see
+ * {@link RxSyncanoCircuitBreaker}.
+ */
+public class RxSyncanoCircuitOpenException extends Exception {
+
+    private final String breakerName;
+
+    public RxSyncanoCircuitOpenException(String breakerName) {
+        super("Circuit open: " + breakerName);
+        this.breakerName = breakerName;
+    }
+
+    /**
+     * @return name of the open circuit breaker
+     */
+    public String getBreakerName() {
+        return breakerName;
+    }
+}
@@ -0,0 +1,209 @@
+package rx.syncano;
+
+import com.syncano.library.data.Notification;
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Subscription;
+import rx.subjects.BehaviorSubject;
+
+/**
+ * Caches the count estimation of Syncano classes, keeping it approximately current without
+ * new requests.
+ *
+ * Every count estimation loaded by {@link SyncanoObservable#getCountEstimation(Class)} is cached,
+ * and the cached counts are adjusted by the objects created and deleted through
+ * {@link SyncanoObservable}. When a class is {@link #track(Class, Observable) tracked} through
+ * its channel, the count follows the channel notifications instead, so objects created and
+ * deleted by other clients are counted too.
+ */
+public final class RxSyncanoCountEstimations {
+
+    private static final Map<Class<?>, Entry> ENTRIES = new HashMap<>();
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will emit the cached
+     * count estimation of a class, loading it from Syncano when it is older than maxAge
+     *
+     * @param clazz Syncano class that will be counted
+     * @param maxAge maximum age of the cached count
+     * @param unit unit of maxAge
+     * @param <T> the type of the Data Object that will be counted
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<Integer> getCountEstimation(Class<T> clazz, long maxAge, TimeUnit unit) {
+        return Observable.defer(() -> {
+            Integer cached = entry(clazz).get(unit.toNanos(maxAge));
+            return cached != null ? Observable.just(cached) : SyncanoObservable.getCountEstimation(clazz);
+        });
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will emit the count
+     * estimation of a class (as {@link #getCountEstimation(Class, long, TimeUnit)}) and then each
+     * updated estimation, as objects are created and deleted, without new requests
+     *
+     * @param clazz Syncano class that will be counted
+     * @param maxAge maximum age of the cached count when subscribing
+     * @param unit unit of maxAge
+     * @param <T> the type of the Data Object that will be counted
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<Integer> observeCountEstimation(Class<T> clazz, long maxAge, TimeUnit unit) {
+        return getCountEstimation(clazz, maxAge, unit)
+                .ignoreElements()
+                .concatWith(entry(clazz).subject.distinctUntilChanged());
+    }
+
+    /**
+     * Keeps the count estimation of a class following the create and delete notifications of
+     * the channel where its objects are published. While tracked, objects created and deleted
+     * through {@link SyncanoObservable} are not counted again
+     *
+     * @param clazz Syncano class that will be counted
+     * @param notifications notifications of the channel of the class, usually from
+     * {@link SyncanoObservable#startChannelConnection(com.syncano.library.Syncano, String)}
+     * @return Subscription that stops the tracking when unsubscribed
+     */
+    public static Subscription track(Class<? extends SyncanoObject> clazz, Observable<Notification> notifications) {
+        Entry entry = entry(clazz);
+        return notifications
+                .doOnSubscribe(() -> entry.tracking(1))
+                .doOnUnsubscribe(() -> entry.tracking(-1))
+                .subscribe(notification -> {
+                    if(notification.getAction() == null) {
+                        return;
+                    }
+                    switch (notification.getAction()) {
+                        case CREATE:
+                            entry.add(1);
+                            break;
+                        case DELETE:
+                            entry.add(-1);
+                            break;
+                        default:
+                            break;
+                    }
+                }, throwable -> entry.invalidate());
+    }
+
+    /**
+     * Discards the cached count estimation of a class
+     *
+     * @param clazz Syncano class that was counted
+     */
+    public static void invalidate(Class<? extends SyncanoObject> clazz) {
+        entry(clazz).invalidate();
+    }
+
+    static void update(Class<?> clazz, int count) {
+        entry(clazz).set(count);
+    }
+
+    static void created(Class<?> clazz) {
+        Entry entry = entry(clazz);
+        if(!entry.isTracked()) {
+            entry.add(1);
+        }
+    }
+
+    static void deleted(Class<?> clazz) {
+        Entry entry = entry(clazz);
+        if(!entry.isTracked()) {
+            entry.add(-1);
+        }
+    }
+
+    private static Entry entry(Class<?> clazz) {
+        synchronized (ENTRIES) {
+            Entry entry = ENTRIES.get(clazz);
+            if(entry == null) {
+                entry = new Entry();
+                ENTRIES.put(clazz, entry);
+            }
+            return entry;
+        }
+    }
+
+    private static final class Entry {
+        final BehaviorSubject<Integer> subject = BehaviorSubject.create();
+        private Integer count;
+        private long loadedAt;
+        private int trackers;
+        /** counts to be emitted once the lock is released */
+        private final Queue<Integer> changes = new ArrayDeque<>();
+        private boolean emittingChanges;
+
+        synchronized Integer get(long maxAgeNanos) {
+            return count != null && System.nanoTime() - loadedAt <= maxAgeNanos ? count : null;
+        }
+
+        void set(int count) {
+            synchronized (this) {
+                this.count = count;
+                loadedAt = System.nanoTime();
+                changes.add(count);
+            }
+            emitChanges();
+        }
+
+        void add(int delta) {
+            synchronized (this) {
+                if(count == null) {
+                    return;
+                }
+                count = Math.max(0, count + delta);
+                changes.add(count);
+            }
+            emitChanges();
+        }
+
+        synchronized void invalidate() {
+            count = null;
+        }
+
+        synchronized void tracking(int delta) {
+            trackers = Math.max(0, trackers + delta);
+        }
+
+        synchronized boolean isTracked() {
+            return trackers > 0;
+        }
+
+        /**
+         * Emits the pending counts in order, from one thread at a time, so subscribers of
+         * {@link #observeCountEstimation(Class, long, TimeUnit)} never run inside the lock
+         */
+        private void emitChanges() {
+            synchronized (this) {
+                if(emittingChanges) {
+                    return;
+                }
+                emittingChanges = true;
+            }
+            while (true) {
+                Integer next;
+                synchronized (this) {
+                    next = changes.poll();
+                    if(next == null) {
+                        emittingChanges = false;
+                        return;
+                    }
+                }
+                subject.onNext(next);
+            }
+        }
+    }
+
+    private RxSyncanoCountEstimations() {
+        // disable instances
+    }
+}
@@ -0,0 +1,110 @@
+package rx.syncano;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Func0;
+import rx.schedulers.Schedulers;
+
+/**
+ * A moment after which an operation and all the requests it makes are abandoned.
+ *
+ * Requests sent through {@link #call(Func0)} are only sent if the deadline didn't expire yet, and
+ * are cancelled when it expires, failing with {@link RxSyncanoDeadlineExceededException}. The same
+ * deadline is passed to the nested requests of an operation, so a query followed by fetches
+ * shares one time budget and no fetch starts after it is spent:
+ *
+ * <pre>
+ *     RxSyncanoDeadline deadline = RxSyncanoDeadline.after(5, TimeUnit.SECONDS);
+ *     deadline.call(() -&gt; SyncanoObservable.getObjects(syncano, Order.class))
+ *             .flatMap(order -&gt; deadline.call(() -&gt;
+ *                     SyncanoObservable.getObject(syncano, Customer.class, order.getCustomerId())))
+ *             .subscribe();
+ * </pre>
+ */
+public class RxSyncanoDeadline {
+
+    private final long deadlineNanos;
+    private final Scheduler scheduler;
+
+    private RxSyncanoDeadline(long deadlineNanos, Scheduler scheduler) {
+        this.deadlineNanos = deadlineNanos;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param timeout time from now until the deadline
+     * @param unit unit of timeout
+     * @return a deadline that expires after timeout
+     */
+    public static RxSyncanoDeadline after(long timeout, TimeUnit unit) {
+        return after(timeout, unit, Schedulers.computation());
+    }
+
+    /**
+     * @param timeout time from now until the deadline
+     * @param unit unit of timeout
+     * @param scheduler Scheduler used to wait for the deadline
+     * @return a deadline that expires after timeout
+     */
+    public static RxSyncanoDeadline after(long timeout, TimeUnit unit, Scheduler scheduler) {
+        return new RxSyncanoDeadline(System.nanoTime() + unit.toNanos(timeout), scheduler);
+    }
+
+    /**
+     * @param timeout time from now until the deadline of a nested operation
+     * @param unit unit of timeout
+     * @return a deadline that expires after timeout, or with this deadline if it is sooner
+     */
+    public RxSyncanoDeadline child(long timeout, TimeUnit unit) {
+        long child = System.nanoTime() + unit.toNanos(timeout);
+        return child - deadlineNanos < 0 ? new RxSyncanoDeadline(child, scheduler) : this;
+    }
+
+    /**
+     * @param unit unit of the result
+     * @return time left until the deadline, 0 when it expired
+     */
+    public long remaining(TimeUnit unit) {
+        return unit.convert(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will subscribe to the
+     * request if the deadline didn't expire, and cancel it when the deadline expires
+     *
+     * @param request creates the Observable of the request, not called after the deadline
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <T> Observable<T> call(Func0<Observable<T>> request) {
+        return Observable.defer(() -> bind(Observable.defer(request::call)));
+    }
+
+    /**
+     * @return a Transformer that cancels the Observable when the deadline expires, for
+     * operations composed of several requests
+     */
+    public <T> Observable.Transformer<T, T> bind() {
+        return observable -> Observable.defer(() -> bind(observable));
+    }
+
+    private <T> Observable<T> bind(Observable<T> observable) {
+        if(isExpired()) {
+            return Observable.error(new RxSyncanoDeadlineExceededException());
+        }
+        // every item restarts the timeout, always aimed at the deadline
+        return observable.timeout(this::untilDeadline, item -> untilDeadline(),
+                Observable.defer(() -> Observable.<T>error(new RxSyncanoDeadlineExceededException())));
+    }
+
+    private Observable<Long> untilDeadline() {
+        return Observable.timer(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS, scheduler);
+    }
+}
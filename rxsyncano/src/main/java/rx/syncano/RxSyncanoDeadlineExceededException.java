@@ -0,0 +1,11 @@
+package rx.syncano;
+
+/**
+ * Signals that an operation didn't finish before its deadline, see {@link RxSyncanoDeadline}.
+ */
+public class RxSyncanoDeadlineExceededException extends Exception {
+
+    public RxSyncanoDeadlineExceededException() {
+        super("Deadline exceeded");
+    }
+}
@@ -0,0 +1,210 @@
+package rx.syncano;
+
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import rx.Observable;
+import rx.functions.Func2;
+
+/**
+ * Compares each result set of data objects with the previous one, keyed by id, and emits the
+ * minimal changes that turn the previous result set into the new one: removals, then moves and
+ * insertions, then changed objects. The positions of each change are valid after the previous
+ * changes are applied, as expected by list adapters.
+ *
+ * <pre>
+ *     refreshes.flatMap(ignored -&gt; SyncanoObservable.get(builder).toList())
+ *             .compose(RxSyncanoDiff.byId())
+ *             .subscribe(change -&gt; apply(adapter, change));
+ * </pre>
+ *
+ * Objects are matched with a hash index and the objects that keep their relative order are
+ * found with a longest increasing subsequence, so a diff costs O(n log n) time and a few int
+ * arrays, instead of comparing every pair of objects.
+ */
+public final class RxSyncanoDiff {
+
+    /**
+     * @param <T> the type of the data objects
+     * @return Transformer that emits the changes between consecutive result sets. An object is
+     * changed when its revision or updated date are different
+     */
+    public static <T extends SyncanoObject> Observable.Transformer<List<T>, RxSyncanoChange<T>> byId() {
+        return byId(RxSyncanoObjectCache::sameVersion);
+    }
+
+    /**
+     * @param sameContent tells whether two versions of an object with the same id are equal
+     * @param <T> the type of the data objects
+     * @return Transformer that emits the changes between consecutive result sets
+     */
+    public static <T extends SyncanoObject> Observable.Transformer<List<T>, RxSyncanoChange<T>> byId(
+            Func2<? super T, ? super T, Boolean> sameContent) {
+        return source -> Observable.defer(() -> {
+            List<List<T>> previous = new ArrayList<>(1);
+            previous.add(new ArrayList<>());
+            return source.concatMap(current -> {
+                List<RxSyncanoChange<T>> changes = diff(previous.get(0), current, sameContent);
+                previous.set(0, current);
+                return Observable.from(changes);
+            });
+        });
+    }
+
+    static <T extends SyncanoObject> List<RxSyncanoChange<T>> diff(List<T> oldList, List<T> newList,
+                                                                  Func2<? super T, ? super T, Boolean> sameContent) {
+        List<RxSyncanoChange<T>> changes = new ArrayList<>();
+        int newSize = newList.size();
+        Map<Integer, Integer> newIndexes = new HashMap<>(newSize * 2);
+        for(int i = 0; i < newSize; i++) {
+            newIndexes.put(newList.get(i).getId(), i);
+        }
+
+        // removed objects, from the end, so the positions of the next ones don't change
+        int[] oldIndexes = new int[newSize];
+        Arrays.fill(oldIndexes, -1);
+        for(int i = oldList.size() - 1; i >= 0; i--) {
+            if(!newIndexes.containsKey(oldList.get(i).getId())) {
+                changes.add(RxSyncanoChange.removed(i, oldList.get(i)));
+            }
+        }
+        List<T> survivors = new ArrayList<>(oldList.size());
+        int[] targets = new int[oldList.size()];
+        for(T t: oldList) {
+            Integer target = newIndexes.get(t.getId());
+            if(target != null) {
+                oldIndexes[target] = survivors.size();
+                targets[survivors.size()] = target;
+                survivors.add(t);
+            }
+        }
+        int survivorsSize = survivors.size();
+        boolean[] stays = longestIncreasingSubsequence(targets, survivorsSize);
+
+        // Gives every position of the old and the new list a slot, ordered so both lists are
+        // subsequences of the slots. Objects that stay share their slot; moved objects have
+        // one slot on each list. The position of an object is the count of filled slots before it
+        int[] oldSlots = new int[survivorsSize];
+        int[] newSlots = new int[newSize];
+        int slots = 0;
+        int p = 0;
+        int q = 0;
+        while(p < survivorsSize || q < newSize) {
+            while(p < survivorsSize && !stays[p]) {
+                oldSlots[p++] = slots++;
+            }
+            while(q < newSize && (oldIndexes[q] < 0 || !stays[oldIndexes[q]])) {
+                newSlots[q++] = slots++;
+            }
+            if(p < survivorsSize && q < newSize) {
+                oldSlots[p++] = slots;
+                newSlots[q++] = slots;
+                slots++;
+            }
+        }
+
+        FilledSlots filled = new FilledSlots(slots);
+        for(int i = 0; i < survivorsSize; i++) {
+            filled.fill(oldSlots[i]);
+        }
+        for(int i = 0; i < newSize; i++) {
+            int oldIndex = oldIndexes[i];
+            if(oldIndex < 0) {
+                filled.fill(newSlots[i]);
+                changes.add(RxSyncanoChange.inserted(filled.countBefore(newSlots[i]), newList.get(i)));
+            }
+            else if(!stays[oldIndex]) {
+                int from = filled.countBefore(oldSlots[oldIndex]);
+                filled.clear(oldSlots[oldIndex]);
+                filled.fill(newSlots[i]);
+                int to = filled.countBefore(newSlots[i]);
+                if(from != to) {
+                    changes.add(RxSyncanoChange.moved(from, to, newList.get(i)));
+                }
+            }
+        }
+
+        for(int i = 0; i < newSize; i++) {
+            int oldIndex = oldIndexes[i];
+            if(oldIndex >= 0 && !sameContent.call(survivors.get(oldIndex), newList.get(i))) {
+                changes.add(RxSyncanoChange.changed(i, newList.get(i)));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * @return which of the first length values belong to one of their longest increasing
+     * subsequences
+     */
+    private static boolean[] longestIncreasingSubsequence(int[] values, int length) {
+        int[] tails = new int[length];
+        int[] previous = new int[length];
+        int size = 0;
+        for(int i = 0; i < length; i++) {
+            int low = 0;
+            int high = size;
+            while(low < high) {
+                int middle = (low + high) >>> 1;
+                if(values[tails[middle]] < values[i]) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if(low == size) {
+                size++;
+            }
+        }
+        boolean[] result = new boolean[length];
+        for(int i = size > 0 ? tails[size - 1] : -1; i >= 0; i = previous[i]) {
+            result[i] = true;
+        }
+        return result;
+    }
+
+    /**
+     * Fenwick tree counting the filled slots
+     */
+    private static final class FilledSlots {
+        private final int[] tree;
+
+        FilledSlots(int size) {
+            tree = new int[size + 1];
+        }
+
+        void fill(int slot) {
+            add(slot, 1);
+        }
+
+        void clear(int slot) {
+            add(slot, -1);
+        }
+
+        int countBefore(int slot) {
+            int count = 0;
+            for(int i = slot; i > 0; i -= i & -i) {
+                count += tree[i];
+            }
+            return count;
+        }
+
+        private void add(int slot, int delta) {
+            for(int i = slot + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+    }
+
+    private RxSyncanoDiff() {
+        // disable instances
+    }
+}
@@ -0,0 +1,169 @@
+package rx.syncano;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscription;
+import rx.functions.Action1;
+import rx.functions.Func0;
+import rx.observables.ConnectableObservable;
+import rx.schedulers.Schedulers;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Sends a duplicate of a slow read, so an occasional slow response of the backend doesn't delay
+ * the caller.
+ *
+ * A read sent through {@link #hedge(Func0)} that doesn't respond within the configured
+ * percentile of the recent latencies is sent again. The first response wins. A losing hedge is
+ * cancelled, while a losing read keeps running until it responds, so the latencies measured are
+ * those of the reads and slow responses aren't left out of the percentile. Hedges are limited by
+ * a budget proportional to the number of reads, so a slow backend never receives more than that
+ * fraction of extra traffic.
+ *
+ * Only idempotent reads, like {@link SyncanoObservable#getObject(com.syncano.library.Syncano, Class, int)}
+ * and {@link SyncanoObservable#get(com.syncano.library.api.Where)}, should be hedged.
+ *
+ * <pre>
+ *     RxSyncanoHedging hedging = new RxSyncanoHedging(0.95, 0.05);
+ *     hedging.hedge(() -&gt; SyncanoObservable.getObject(syncano, MyClass.class, id)).subscribe();
+ * </pre>
+ */
+public class RxSyncanoHedging {
+
+    public static final int SAMPLES = 128;
+    public static final int MIN_SAMPLES = 16;
+    public static final long DEFAULT_MIN_DELAY_MILLIS = 50;
+    private static final double MAX_BUDGET = 10;
+
+    private final double percentile;
+    private final double budgetRatio;
+    private final Scheduler scheduler;
+    private final long[] latencies = new long[SAMPLES];
+    private int sampleCount;
+    private int nextSample;
+    private long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MIN_DELAY_MILLIS);
+    private double budget;
+
+    /**
+     * @param percentile percentile of the recent latencies after which a read is hedged, like
+     *                   0.95
+     * @param budgetRatio maximum of hedges per read, like 0.05 for at most 5% extra reads
+     */
+    public RxSyncanoHedging(double percentile, double budgetRatio) {
+        this(percentile, budgetRatio, Schedulers.computation());
+    }
+
+    /**
+     * @param percentile percentile of the recent latencies after which a read is hedged
+     * @param budgetRatio maximum of hedges per read
+     * @param scheduler Scheduler used to wait for the hedge delay
+     */
+    public RxSyncanoHedging(double percentile, double budgetRatio, Scheduler scheduler) {
+        if(percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1");
+        }
+        if(budgetRatio < 0) {
+            throw new IllegalArgumentException("budgetRatio must not be negative");
+        }
+        this.percentile = percentile;
+        this.budgetRatio = budgetRatio;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sets the smallest delay before a hedge, used as well while there are too few latencies
+     * measured to compute the percentile
+     *
+     * @param minDelay minimum delay before a hedge
+     * @param unit unit of minDelay
+     */
+    public synchronized void setMinDelay(long minDelay, TimeUnit unit) {
+        minDelayNanos = unit.toNanos(minDelay);
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will send the read and,
+     * when it is slower than the hedge delay and the budget allows, a duplicate of it. Items
+     * come from the request that responds first. Unsubscribing before the end cancels both
+     *
+     * @param read creates the Observable of an idempotent read, called again for the hedge
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <T> Observable<T> hedge(Func0<Observable<T>> read) {
+        return Observable.create((OnSubscribe<T>) subscriber -> {
+            long delay = startRead();
+            long startedAt = System.nanoTime();
+            ConnectableObservable<T> primary = Observable.defer(read::call)
+                    .doOnNext(new Action1<T>() {
+                        private boolean measured;
+
+                        @Override
+                        public void call(T t) {
+                            if(!measured) {
+                                measured = true;
+                                record(System.nanoTime() - startedAt);
+                            }
+                        }
+                    })
+                    .replay();
+            Observable<T> hedged = Observable.timer(delay, TimeUnit.NANOSECONDS, scheduler)
+                    .flatMap(tick -> takeHedge() ? Observable.defer(read::call) : Observable.<T>never());
+            AtomicBoolean terminated = new AtomicBoolean();
+            Observable.amb(primary, hedged)
+                    .doOnTerminate(() -> terminated.set(true))
+                    .unsafeSubscribe(subscriber);
+            // amb only drops the primary read, which keeps running to be measured unless the
+            // subscriber leaves before the end
+            Subscription primaryRead = primary.connect();
+            subscriber.add(Subscriptions.create(() -> {
+                if(!terminated.get()) {
+                    primaryRead.unsubscribe();
+                }
+            }));
+        });
+    }
+
+    /**
+     * @return current delay before a read is hedged, in nanoseconds
+     */
+    public synchronized long getDelayNanos() {
+        if(sampleCount < MIN_SAMPLES) {
+            return minDelayNanos;
+        }
+        long[] sorted = Arrays.copyOf(latencies, sampleCount);
+        Arrays.sort(sorted);
+        long delay = sorted[(int) Math.min(sampleCount - 1, Math.floor(percentile * sampleCount))];
+        return Math.max(delay, minDelayNanos);
+    }
+
+    /**
+     * Earns budget for one read
+     *
+     * @return delay before hedging the read
+     */
+    private synchronized long startRead() {
+        budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+        return getDelayNanos();
+    }
+
+    private synchronized boolean takeHedge() {
+        if(budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    private synchronized void record(long latencyNanos) {
+        latencies[nextSample] = latencyNanos;
+        nextSample = (nextSample + 1) % SAMPLES;
+        sampleCount = Math.min(sampleCount + 1, SAMPLES);
+    }
+}
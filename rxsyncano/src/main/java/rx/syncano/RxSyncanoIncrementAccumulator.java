@@ -0,0 +1,233 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.api.IncrementBuilder;
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.plugins.RxJavaPlugins;
+import rx.schedulers.Schedulers;
+import rx.subjects.AsyncSubject;
+
+/**
+ * Merges the increments of the same object made during a flush interval in a single
+ * {@link SyncanoObservable#addition(Syncano, Class, int, IncrementBuilder)} request.
+ *
+ * Hot counters (views, likes) may receive hundreds of increments per second. Each increment is
+ * added to the pending increments of its object and field; at every flush interval, one request
+ * per object sends the sum of its increments, and every subscriber waiting on that object
+ * receives the object with the final values.
+ *
+ * An increment is queued when its Observable is subscribed and is sent even if the subscriber
+ * unsubscribes before the flush. A request that fails with a transient error is retried with
+ * backoff; if it still fails, its increments go back to the pending ones, merged with the
+ * increments made meanwhile, and are sent again by the next flush. Increments are only dropped
+ * when the request fails with a permanent error, that is delivered to their subscribers. Call
+ * {@link #shutdown()} before the application stops, so the pending increments are not lost.
+ */
+public class RxSyncanoIncrementAccumulator {
+
+    private static final int MAX_RETRIES = 3;
+
+    private final Syncano syncano;
+    private final Scheduler scheduler;
+    private final Scheduler.Worker worker;
+    private final Map<String, Batch<?>> pending = new LinkedHashMap<>();
+    private boolean shutdown;
+
+    /**
+     * @param syncano Syncano instance used to send the increments
+     * @param flushInterval interval between flushes
+     * @param unit unit of flushInterval
+     */
+    public RxSyncanoIncrementAccumulator(Syncano syncano, long flushInterval, TimeUnit unit) {
+        this(syncano, flushInterval, unit, Schedulers.computation());
+    }
+
+    /**
+     * @param syncano Syncano instance used to send the increments
+     * @param flushInterval interval between flushes
+     * @param unit unit of flushInterval
+     * @param scheduler Scheduler of the flush timer
+     */
+    public RxSyncanoIncrementAccumulator(Syncano syncano, long flushInterval, TimeUnit unit, Scheduler scheduler) {
+        this.syncano = syncano;
+        this.scheduler = scheduler;
+        this.worker = scheduler.createWorker();
+        // failed increments are pending again or were delivered to their subscribers, the error
+        // is only reported
+        worker.schedulePeriodically(() -> flush().subscribe(object -> { },
+                throwable -> RxJavaPlugins.getInstance().getErrorHandler().handleError(throwable)),
+                flushInterval, flushInterval, unit);
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will queue an increment
+     * of a field and emit the object after the flush that sends it
+     *
+     * @param clazz Syncano class of the object
+     * @param id identifier of the object
+     * @param field name of the field to be incremented
+     * @param value value added to the field, negative values decrement it
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <T extends SyncanoObject> Observable<T> increment(Class<T> clazz, int id, String field, int value) {
+        return Observable.defer(() -> add(clazz, id, field, value));
+    }
+
+    /**
+     * Sends the pending increments now, without waiting the flush interval
+     *
+     * @return Observable that emits the updated objects and completes after all of them were
+     * sent. Failures of the objects are delayed until all the others are sent; the objects that
+     * failed with a transient error stay pending for the next flush
+     */
+    public Observable<SyncanoObject> flush() {
+        return send(false);
+    }
+
+    private Observable<SyncanoObject> send(boolean skipTransient) {
+        List<Batch<?>> batches;
+        synchronized (this) {
+            batches = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        List<Observable<? extends SyncanoObject>> requests = new ArrayList<>(batches.size());
+        for(Batch<?> batch: batches) {
+            Observable<? extends SyncanoObject> request = batch.send(this);
+            if(skipTransient) {
+                // the batch is pending again
+                request = request.onErrorResumeNext(throwable -> RxSyncanoRetry.isTransient(throwable)
+                        ? Observable.empty() : Observable.error(throwable));
+            }
+            requests.add(request);
+        }
+        return Observable.mergeDelayError(Observable.from(requests));
+    }
+
+    /**
+     * Stops the flush timer and sends the pending increments. Increments made after the
+     * shutdown fail with {@link IllegalStateException}
+     *
+     * @return Observable that emits the updated objects and completes after all the pending
+     * increments were sent. Objects that fail with transient errors are flushed again, until
+     * they are sent or fail with a permanent error, that is emitted after the others were sent.
+     * While the network is down, it doesn't complete; apply a timeout if needed
+     */
+    public Observable<SyncanoObject> shutdown() {
+        synchronized (this) {
+            shutdown = true;
+        }
+        worker.unsubscribe();
+        return drain();
+    }
+
+    private Observable<SyncanoObject> drain() {
+        Observable<SyncanoObject> remaining = Observable.defer(() -> hasPending() ? drain() : Observable.empty());
+        return send(true)
+                .onErrorResumeNext(throwable -> remaining.concatWith(Observable.error(throwable)))
+                .concatWith(remaining);
+    }
+
+    private synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T extends SyncanoObject> Observable<T> add(Class<T> clazz, int id, String field, int value) {
+        if(shutdown) {
+            return Observable.error(new IllegalStateException("Increment accumulator is shut down"));
+        }
+        String key = clazz.getName() + ':' + id;
+        Batch<T> batch = (Batch<T>) pending.get(key);
+        if(batch == null) {
+            batch = new Batch<>(key, clazz, id);
+            pending.put(key, batch);
+        }
+        batch.add(field, value);
+        return batch.result.asObservable();
+    }
+
+    /**
+     * Puts the increments of a batch that failed with a transient error back to the pending
+     * ones, merged with the increments made since it was sent
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized <T extends SyncanoObject> void requeue(Batch<T> batch) {
+        Batch<T> newer = (Batch<T>) pending.remove(batch.key);
+        if(newer != null) {
+            for(Map.Entry<String, Integer> field: newer.fields.entrySet()) {
+                batch.add(field.getKey(), field.getValue());
+            }
+            batch.result.subscribe(newer.result);
+        }
+        pending.put(batch.key, batch);
+    }
+
+    /**
+     * Increments of an object waiting for the next flush
+     */
+    private static final class Batch<T extends SyncanoObject> {
+        final String key;
+        final Class<T> clazz;
+        final int id;
+        final Map<String, Integer> fields = new LinkedHashMap<>();
+        final AsyncSubject<T> result = AsyncSubject.create();
+
+        Batch(String key, Class<T> clazz, int id) {
+            this.key = key;
+            this.clazz = clazz;
+            this.id = id;
+        }
+
+        void add(String field, int value) {
+            Integer current = fields.get(field);
+            fields.put(field, current == null ? value : current + value);
+        }
+
+        /**
+         * Called with the lock of the accumulator held, as fields may be merged by requeue
+         */
+        private IncrementBuilder incrementBuilder() {
+            IncrementBuilder incrementBuilder = new IncrementBuilder();
+            for(Map.Entry<String, Integer> field: fields.entrySet()) {
+                int value = field.getValue();
+                if(value >= 0) {
+                    incrementBuilder.increment(field.getKey(), value);
+                }
+                else {
+                    incrementBuilder.decrement(field.getKey(), -value);
+                }
+            }
+            return incrementBuilder;
+        }
+
+        Observable<T> send(RxSyncanoIncrementAccumulator accumulator) {
+            IncrementBuilder incrementBuilder;
+            synchronized (accumulator) {
+                incrementBuilder = incrementBuilder();
+            }
+            Observable<T> request = RxSyncanoRetry.withBackoff(
+                    () -> SyncanoObservable.addition(accumulator.syncano, clazz, id, incrementBuilder),
+                    MAX_RETRIES, accumulator.scheduler).cache();
+            request.subscribe(result::onNext, throwable -> {
+                if(RxSyncanoRetry.isTransient(throwable)) {
+                    accumulator.requeue(this);
+                }
+                else {
+                    result.onError(throwable);
+                }
+            }, result::onCompleted);
+            return request;
+        }
+    }
+}
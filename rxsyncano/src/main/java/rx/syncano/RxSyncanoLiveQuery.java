@@ -0,0 +1,162 @@
+package rx.syncano;
+
+import com.google.gson.JsonObject;
+import com.syncano.library.Syncano;
+import com.syncano.library.api.RequestGetList;
+import com.syncano.library.api.Where;
+import com.syncano.library.data.Notification;
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import rx.Observable.OnSubscribe;
+import rx.Subscriber;
+import rx.functions.Func1;
+import rx.observers.SerializedSubscriber;
+
+/**
+ * Loads the result set of a query once, following all its pages, and keeps it updated with the
+ * create, update and delete notifications of a channel, emitting each change of the result set.
+ *
+ * The channel connection is started before the query is sent, and the notifications received
+ * while the query is running are applied right after the initial result set, so no change is
+ * lost between both.
+ */
+class RxSyncanoLiveQuery<T extends SyncanoObject> implements OnSubscribe<RxSyncanoChange<T>> {
+
+    private static final String FIELD_ID = "id";
+
+    private final Syncano syncano;
+    private final Class<T> clazz;
+    private final Where<T> where;
+    private final Func1<? super T, Boolean> matcher;
+    private final String channelName;
+
+    RxSyncanoLiveQuery(Syncano syncano, Class<T> clazz, Where<T> where,
+                       Func1<? super T, Boolean> matcher, String channelName) {
+        this.syncano = syncano;
+        this.clazz = clazz;
+        this.where = where;
+        this.matcher = matcher;
+        this.channelName = channelName;
+    }
+
+    @Override
+    public void call(Subscriber<? super RxSyncanoChange<T>> subscriber) {
+        Subscriber<RxSyncanoChange<T>> serialized = new SerializedSubscriber<>(subscriber);
+        ResultSet resultSet = new ResultSet(serialized);
+        subscriber.add(SyncanoObservable.startChannelConnection(syncano, channelName)
+                .subscribe(resultSet::onNotification, serialized::onError));
+        subscriber.add(RxSyncanoPages.all(syncano, clazz, () -> {
+            RequestGetList<T> request = syncano.getObjects(clazz);
+            request.setWhereFilter(where);
+            return request;
+        }).toList().subscribe(resultSet::onLoaded, serialized::onError));
+    }
+
+    private class ResultSet {
+
+        private final Subscriber<? super RxSyncanoChange<T>> subscriber;
+        private final List<T> objects = new ArrayList<>();
+        /** position of each object in objects, by id */
+        private final Map<Integer, Integer> positions = new HashMap<>();
+        private List<Notification> pending = new ArrayList<>();
+
+        ResultSet(Subscriber<? super RxSyncanoChange<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        synchronized void onLoaded(List<T> initial) {
+            for(T t: initial) {
+                subscriber.onNext(RxSyncanoChange.inserted(add(t), t));
+            }
+            for(Notification notification: pending) {
+                apply(notification);
+            }
+            pending = null;
+        }
+
+        synchronized void onNotification(Notification notification) {
+            if(pending != null) {
+                pending.add(notification);
+            }
+            else {
+                apply(notification);
+            }
+        }
+
+        private void apply(Notification notification) {
+            JsonObject payload = notification.getPayload();
+            if(payload == null || !payload.has(FIELD_ID) || notification.getAction() == null) {
+                return;
+            }
+            int position = indexOf(payload.get(FIELD_ID).getAsInt());
+            switch (notification.getAction()) {
+                case CREATE:
+                    upsert(position, RxSyncanoParser.fromJson(clazz, payload));
+                    break;
+                case UPDATE:
+                    upsert(position, position >= 0
+                            ? RxSyncanoParser.merge(objects.get(position), payload)
+                            : RxSyncanoParser.fromJson(clazz, payload));
+                    break;
+                case DELETE:
+                    if(position >= 0) {
+                        subscriber.onNext(RxSyncanoChange.removed(position, remove(position)));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void upsert(int position, T t) {
+            boolean matches = matcher.call(t);
+            if(position >= 0 && matches) {
+                objects.set(position, t);
+                subscriber.onNext(RxSyncanoChange.changed(position, t));
+            }
+            else if(position >= 0) {
+                subscriber.onNext(RxSyncanoChange.removed(position, remove(position)));
+            }
+            else if(matches) {
+                subscriber.onNext(RxSyncanoChange.inserted(add(t), t));
+            }
+        }
+
+        private int indexOf(int id) {
+            Integer position = positions.get(id);
+            return position != null ? position : -1;
+        }
+
+        /**
+         * @return position of the object, added at the end
+         */
+        private int add(T t) {
+            objects.add(t);
+            int position = objects.size() - 1;
+            if(t.getId() != null) {
+                positions.put(t.getId(), position);
+            }
+            return position;
+        }
+
+        /**
+         * Removes the object at the position, moving the positions of the next ones
+         */
+        private T remove(int position) {
+            T removed = objects.remove(position);
+            positions.remove(removed.getId());
+            for(int i = position; i < objects.size(); i++) {
+                Integer id = objects.get(i).getId();
+                if(id != null) {
+                    positions.put(id, i);
+                }
+            }
+            return removed;
+        }
+    }
+}
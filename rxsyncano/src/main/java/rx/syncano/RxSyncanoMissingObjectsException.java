@@ -0,0 +1,25 @@
+package rx.syncano;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Signals that some of the requested ids don't have a correspondent object on Syncano. It is
+ * sent to subscriber.onError(Exception) after all the objects found were emitted.
+ */
+public class RxSyncanoMissingObjectsException extends Exception {
+
+    private final List<Integer> missingIds;
+
+    public RxSyncanoMissingObjectsException(List<Integer> missingIds) {
+        super("Objects not found: " + missingIds);
+        this.missingIds = Collections.unmodifiableList(missingIds);
+    }
+
+    /**
+     * @return ids without a correspondent object, in the same order they were requested
+     */
+    public List<Integer> getMissingIds() {
+        return missingIds;
+    }
+}
@@ -0,0 +1,159 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.api.FieldsFilter;
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import rx.Observable;
+
+/**
+ * Keeps the last version loaded of data objects and revalidates them before downloading them
+ * again.
+ *
+ * A refresh first asks Syncano only for the {@code revision} and {@code updated_at} fields of the
+ * object. When they match the cached version, the cached object is emitted, costing a tiny
+ * response instead of the full payload and a new deserialization. Otherwise the full object is
+ * loaded and cached.
+ *
+ * Objects are cached per Syncano instance, so instances pointing at different Syncano instances
+ * or accounts never share objects. Cached objects are shared by all subscribers, so they
+ * shouldn't be changed without saving them.
+ */
+public class RxSyncanoObjectCache {
+
+    private static final FieldsFilter VERSION_FIELDS = new FieldsFilter(
+            FieldsFilter.FilterType.INCLUDE_FIELDS, "id", "revision", "updated_at");
+
+    private final int maxSize;
+    private final Map<Syncano, Map<String, SyncanoObject>> objects = new WeakHashMap<>();
+
+    /**
+     * @param maxSize maximum of objects cached per Syncano instance. The least recently used are
+     *                discarded first
+     */
+    public RxSyncanoObjectCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load an object,
+     * reusing the cached version when it didn't change on Syncano
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param id identifier used as reference
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <T extends SyncanoObject> Observable<T> getObject(Syncano syncano, Class<T> clazz, int id) {
+        return Observable.defer(() -> {
+            T cached = get(syncano, clazz, id);
+            Observable<T> full = SyncanoObservable.getObject(syncano, clazz, id)
+                    .doOnNext(object -> put(syncano, object));
+            if(cached == null) {
+                return full;
+            }
+            return SyncanoObservable.getObject(syncano, clazz, id, VERSION_FIELDS)
+                    .flatMap(version -> sameVersion(cached, version) ? Observable.just(cached) : full);
+        });
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will refresh the data
+     * object. When the cached version of the object didn't change on Syncano, it is emitted
+     * without downloading it again. Otherwise the object is loaded from Syncano. The given object
+     * is never emitted nor cached, since it may hold unsaved changes. Fails with
+     * {@link IllegalArgumentException} when the object was never saved
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t Data object to be refreshed
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends SyncanoObject> Observable<T> fetch(Syncano syncano, T t) {
+        if(t.getId() == null) {
+            return Observable.error(new IllegalArgumentException("Only saved objects can be fetched"));
+        }
+        return getObject(syncano, (Class<T>) t.getClass(), t.getId());
+    }
+
+    /**
+     * Discards the cached version of an object, usually after it was changed locally
+     *
+     * @param syncano Syncano instance the object was loaded with
+     * @param clazz Syncano class of the object
+     * @param id identifier of the object
+     */
+    public void invalidate(Syncano syncano, Class<? extends SyncanoObject> clazz, int id) {
+        synchronized (objects) {
+            Map<String, SyncanoObject> instanceObjects = objects.get(syncano);
+            if(instanceObjects != null) {
+                instanceObjects.remove(key(clazz, id));
+            }
+        }
+    }
+
+    /**
+     * Discards all cached objects
+     */
+    public void clear() {
+        synchronized (objects) {
+            objects.clear();
+        }
+    }
+
+    /**
+     * Discards the cached objects of a Syncano instance
+     *
+     * @param syncano Syncano instance the objects were loaded with
+     */
+    public void clear(Syncano syncano) {
+        synchronized (objects) {
+            objects.remove(syncano);
+        }
+    }
+
+    private <T extends SyncanoObject> T get(Syncano syncano, Class<T> clazz, int id) {
+        synchronized (objects) {
+            Map<String, SyncanoObject> instanceObjects = objects.get(syncano);
+            return instanceObjects == null ? null : clazz.cast(instanceObjects.get(key(clazz, id)));
+        }
+    }
+
+    private void put(Syncano syncano, SyncanoObject object) {
+        synchronized (objects) {
+            Map<String, SyncanoObject> instanceObjects = objects.get(syncano);
+            if(instanceObjects == null) {
+                instanceObjects = new LinkedHashMap<String, SyncanoObject>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, SyncanoObject> eldest) {
+                        return size() > maxSize;
+                    }
+                };
+                objects.put(syncano, instanceObjects);
+            }
+            instanceObjects.put(key(object.getClass(), object.getId()), object);
+        }
+    }
+
+    static boolean sameVersion(SyncanoObject cached, SyncanoObject current) {
+        Integer cachedRevision = cached.getRevision();
+        if(cachedRevision != null && current.getRevision() != null) {
+            return cachedRevision.equals(current.getRevision());
+        }
+        Date cachedUpdatedAt = cached.getUpdatedAt();
+        return cachedUpdatedAt != null && cachedUpdatedAt.equals(current.getUpdatedAt());
+    }
+
+    private static String key(Class<?> clazz, int id) {
+        return clazz.getName() + ':' + id;
+    }
+}
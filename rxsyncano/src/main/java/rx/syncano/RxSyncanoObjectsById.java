@@ -0,0 +1,109 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.api.RequestGetList;
+import com.syncano.library.api.Where;
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import rx.Observable;
+
+/**
+ * Loads a set of objects by id, splitting the ids in chunks that are requested in parallel with
+ * an {@code in} filter
+ */
+final class RxSyncanoObjectsById {
+
+    /**
+     * Ids per request. Keeps the url of each request short
+     */
+    static final int CHUNK_SIZE = 50;
+
+    /**
+     * Maximum of chunks requested at the same time
+     */
+    static final int MAX_CONCURRENT_CHUNKS = 4;
+
+    private static final String FIELD_ID = "id";
+
+    static <T extends SyncanoObject> Observable<T> create(Syncano syncano, Class<T> clazz,
+                                                          Collection<Integer> ids, boolean ordered) {
+        return Observable.defer(() -> {
+            List<Integer> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+            // chunks after the first ones are subscribed when another chunk completes
+            RxSyncanoPriority priority = RxSyncanoPriority.current();
+            Observable<T> found = Observable.merge(Observable.from(chunks(uniqueIds))
+                            .map(chunk -> priority.call(() -> getChunk(syncano, clazz, chunk))),
+                    MAX_CONCURRENT_CHUNKS);
+            return ordered ? inOrder(found, uniqueIds) : asTheyArrive(found, uniqueIds);
+        });
+    }
+
+    private static <T extends SyncanoObject> Observable<T> inOrder(Observable<T> found, List<Integer> ids) {
+        return found.toMap(t -> t.getId()).flatMap(objectsById -> {
+            List<T> objects = new ArrayList<>(objectsById.size());
+            List<Integer> missingIds = new ArrayList<>();
+            for(Integer id: ids) {
+                T t = objectsById.get(id);
+                if(t != null) {
+                    objects.add(t);
+                }
+                else {
+                    missingIds.add(id);
+                }
+            }
+            return Observable.from(objects).concatWith(missing(missingIds));
+        });
+    }
+
+    private static <T extends SyncanoObject> Observable<T> asTheyArrive(Observable<T> found, List<Integer> ids) {
+        Set<Integer> pendingIds = Collections.synchronizedSet(new HashSet<>(ids));
+        return found
+                .doOnNext(t -> pendingIds.remove(t.getId()))
+                .concatWith(Observable.defer(() -> {
+                    List<Integer> missingIds = new ArrayList<>();
+                    for(Integer id: ids) {
+                        if(pendingIds.contains(id)) {
+                            missingIds.add(id);
+                        }
+                    }
+                    return missing(missingIds);
+                }));
+    }
+
+    private static <T> Observable<T> missing(List<Integer> missingIds) {
+        if(missingIds.isEmpty()) {
+            return Observable.empty();
+        }
+        return Observable.error(new RxSyncanoMissingObjectsException(missingIds));
+    }
+
+    private static <T extends SyncanoObject> Observable<T> getChunk(Syncano syncano, Class<T> clazz, Integer[] chunk) {
+        return Observable.create(RxSyncanoRequest.list(syncano, () -> {
+            RequestGetList<T> request = syncano.getObjects(clazz);
+            request.setWhereFilter(new Where<T>().in(FIELD_ID, chunk));
+            request.setLimit(chunk.length);
+            return request;
+        }));
+    }
+
+    private static List<Integer[]> chunks(List<Integer> ids) {
+        List<Integer[]> chunks = new ArrayList<>();
+        for(int start = 0; start < ids.size(); start += CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(start, Math.min(start + CHUNK_SIZE, ids.size()));
+            chunks.add(chunk.toArray(new Integer[chunk.size()]));
+        }
+        return chunks;
+    }
+
+    private RxSyncanoObjectsById() {
+        // disable instances
+    }
+}
@@ -0,0 +1,203 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.api.RequestGetList;
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.Collections;
+import java.util.List;
+
+import rx.Observable;
+import rx.Observable.OnSubscribe;
+import rx.Producer;
+import rx.Subscriber;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.subscriptions.SerialSubscription;
+
+/**
+ * Emits every object of a paginated list, following the next page urls returned by Syncano.
+ *
+ * The next page is requested as soon as a page arrives, while its objects are still being
+ * consumed, so the consumer rarely waits for the network. Pages are cursor based, so only one
+ * page can be prefetched. Objects are emitted as the Subscriber requests them, and
+ * unsubscribing cancels the prefetched request.
+ *
+ * A single loop holds the url of the next page and the prefetched page, so the stack depth doesn't
+ * grow with the number of pages.
+ */
+final class RxSyncanoPages {
+
+    /**
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class of the objects
+     * @param firstPage creates the request of the first page
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable with the objects of all pages
+     */
+    static <T extends SyncanoObject> Observable<T> all(Syncano syncano, Class<T> clazz,
+                                                       Func0<? extends RequestGetList<T>> firstPage) {
+        return Observable.defer(() -> {
+            // pages may be fetched from the thread that requests more objects
+            RxSyncanoPriority priority = RxSyncanoPriority.current();
+            return all(pageUrl -> priority.call(() -> Observable.create(RxSyncanoRequest.page(syncano,
+                    () -> pageUrl == null ? firstPage.call() : syncano.getObjects(clazz, pageUrl))))
+                    .map(response -> new Page<>(response.getData(), response.getNextPageUrl())));
+        });
+    }
+
+    /**
+     * @param fetch loads the page of an url, or the first page when the url is null
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable with the objects of all pages
+     */
+    static <T> Observable<T> all(Func1<String, Observable<Page<T>>> fetch) {
+        return Observable.create((OnSubscribe<T>) subscriber -> {
+            Cursor<T> cursor = new Cursor<>(subscriber, fetch);
+            subscriber.add(cursor.request);
+            subscriber.setProducer(cursor);
+        });
+    }
+
+    /**
+     * Objects of a page and the url of the next one
+     */
+    static final class Page<T> {
+        final List<T> objects;
+        final String nextPageUrl;
+
+        Page(List<T> objects, String nextPageUrl) {
+            this.objects = objects;
+            this.nextPageUrl = nextPageUrl;
+        }
+    }
+
+    private static final class Cursor<T> implements Producer {
+
+        private final Subscriber<? super T> subscriber;
+        private final Func1<String, Observable<Page<T>>> fetch;
+        private final SerialSubscription request = new SerialSubscription();
+
+        // guarded by this
+        private long requested;
+        private boolean emitting;
+        private boolean started;
+        private boolean fetching;
+        private boolean lastPage;
+        private List<T> current = Collections.emptyList();
+        private int index;
+        private Page<T> prefetched;
+        private Throwable error;
+
+        Cursor(Subscriber<? super T> subscriber, Func1<String, Observable<Page<T>>> fetch) {
+            this.subscriber = subscriber;
+            this.fetch = fetch;
+        }
+
+        @Override
+        public void request(long n) {
+            if(n <= 0) {
+                return;
+            }
+            synchronized (this) {
+                requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+            }
+            drain();
+        }
+
+        private void onPage(Page<T> page) {
+            synchronized (this) {
+                fetching = false;
+                prefetched = page;
+            }
+            drain();
+        }
+
+        private void onError(Throwable throwable) {
+            synchronized (this) {
+                fetching = false;
+                error = throwable;
+            }
+            drain();
+        }
+
+        /**
+         * Emits what the state allows, one step per iteration. Calls made while it is running,
+         * like a request from onNext or a page loaded synchronously, only change the state and
+         * are picked up by the running loop
+         */
+        private void drain() {
+            synchronized (this) {
+                if(emitting) {
+                    return;
+                }
+                emitting = true;
+            }
+            while (!subscriber.isUnsubscribed()) {
+                boolean load = false;
+                String url = null;
+                T item = null;
+                boolean emit = false;
+                Throwable failure;
+                boolean complete = false;
+                synchronized (this) {
+                    failure = error;
+                    if(failure == null) {
+                        if(!started) {
+                            if(requested == 0) {
+                                emitting = false;
+                                return;
+                            }
+                            started = true;
+                            fetching = true;
+                            load = true;
+                        }
+                        else if(index == current.size() && prefetched != null) {
+                            current = prefetched.objects;
+                            index = 0;
+                            url = prefetched.nextPageUrl;
+                            prefetched = null;
+                            lastPage = url == null || current.isEmpty();
+                            if(!lastPage) {
+                                fetching = true;
+                                load = true;
+                            }
+                        }
+                        if(index < current.size() && requested > 0) {
+                            item = current.get(index++);
+                            emit = true;
+                            if(requested != Long.MAX_VALUE) {
+                                requested--;
+                            }
+                        }
+                        else if(index == current.size() && prefetched == null && lastPage) {
+                            complete = true;
+                        }
+                        else if(!load) {
+                            emitting = false;
+                            return;
+                        }
+                    }
+                }
+                if(failure != null) {
+                    subscriber.onError(failure);
+                    return;
+                }
+                if(load) {
+                    request.set(fetch.call(url).subscribe(this::onPage, this::onError));
+                }
+                if(emit) {
+                    subscriber.onNext(item);
+                }
+                if(complete) {
+                    subscriber.onCompleted();
+                    return;
+                }
+            }
+        }
+    }
+
+    private RxSyncanoPages() {
+        // disable instances
+    }
+}
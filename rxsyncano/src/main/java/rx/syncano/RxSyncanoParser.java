@@ -0,0 +1,42 @@
+package rx.syncano;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.syncano.library.parser.GsonParser;
+
+import java.util.Map;
+
+/**
+ * Converts data objects from and to json with the same rules Syncano uses on requests
+ */
+final class RxSyncanoParser {
+
+    static <T> T fromJson(Class<T> clazz, JsonObject json) {
+        return gson(clazz).fromJson(json, clazz);
+    }
+
+    static JsonObject toJson(Object object) {
+        return gson(object.getClass()).toJsonTree(object).getAsJsonObject();
+    }
+
+    /**
+     * @return new object with the fields of the json applied over the fields of the object
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T merge(T object, JsonObject json) {
+        JsonObject merged = toJson(object);
+        for(Map.Entry<String, JsonElement> entry: json.entrySet()) {
+            merged.add(entry.getKey(), entry.getValue());
+        }
+        return fromJson((Class<T>) object.getClass(), merged);
+    }
+
+    private static Gson gson(Class<?> clazz) {
+        return GsonParser.createGson(clazz);
+    }
+
+    private RxSyncanoParser() {
+        // disable instances
+    }
+}
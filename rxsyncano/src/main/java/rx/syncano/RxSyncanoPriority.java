@@ -0,0 +1,75 @@
+package rx.syncano;
+
+import rx.Observable;
+import rx.functions.Action0;
+import rx.functions.Func0;
+
+/**
+ * Priority of the requests sent from {@link SyncanoObservable}. Requests are
+ * {@link #INTERACTIVE} unless they are subscribed inside {@link #BACKGROUND}, or from the
+ * callbacks of a background request, like the next page of a list or a flatMap on its result:
+ *
+ * <pre>
+ *     RxSyncanoSchedulers.usePriorityLanes(syncano, 8, 2);
+ *     RxSyncanoPriority.BACKGROUND.call(() -&gt; SyncanoObservable.getObjects(syncano, MyClass.class))
+ *             .subscribe();
+ * </pre>
+ *
+ * Priorities only change the order requests are sent when the Syncano instance uses priority
+ * lanes, see {@link RxSyncanoSchedulers#usePriorityLanes(com.syncano.library.Syncano, int, int)}.
+ */
+public enum RxSyncanoPriority {
+
+    /** requests the user is waiting for, sent before any queued background request */
+    INTERACTIVE,
+    /** requests of synchronizations and prefetches, that never take the reserved capacity */
+    BACKGROUND;
+
+    private static final ThreadLocal<RxSyncanoPriority> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will subscribe to the
+     * Observable created by request, sending with this priority the requests it subscribes to
+     * at once and the requests subscribed from their callbacks. Requests subscribed later from
+     * another thread, like after an observeOn, must be wrapped again
+     *
+     * @param request creates the Observable of the requests
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <T> Observable<T> call(Func0<Observable<T>> request) {
+        return Observable.create(subscriber -> run(() -> {
+            try {
+                request.call().unsafeSubscribe(subscriber);
+            }
+            catch (Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+        }));
+    }
+
+    /**
+     * Runs the action with this priority, so the requests it subscribes to are sent with it
+     *
+     * @param action action to be run on the current thread
+     */
+    void run(Action0 action) {
+        RxSyncanoPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            action.call();
+        }
+        finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @return priority of the requests subscribed on the current thread
+     */
+    static RxSyncanoPriority current() {
+        RxSyncanoPriority priority = CURRENT.get();
+        return priority != null ? priority : INTERACTIVE;
+    }
+}
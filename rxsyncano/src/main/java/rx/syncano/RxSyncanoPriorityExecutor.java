@@ -0,0 +1,90 @@
+package rx.syncano;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs the requests of both priorities on a bounded number of threads, keeping some of them
+ * for interactive requests.
+ *
+ * Queued interactive requests always run before queued background ones, and background requests
+ * never run on the reserved threads, so an interactive request waits at most for a reserved
+ * thread even while a long synchronization is queued.
+ */
+final class RxSyncanoPriorityExecutor {
+
+    private final Queue<Runnable> interactive = new ArrayDeque<>();
+    private final Queue<Runnable> background = new ArrayDeque<>();
+    private final ExecutorService threads;
+    private final int maxThreads;
+    private final int maxBackgroundThreads;
+    private int running;
+    private int runningBackground;
+
+    /**
+     * @param maxThreads maximum of requests sent at the same time
+     * @param reservedThreads threads only used by interactive requests
+     * @param threadFactory creates the threads
+     */
+    RxSyncanoPriorityExecutor(int maxThreads, int reservedThreads, ThreadFactory threadFactory) {
+        if(reservedThreads < 0 || reservedThreads >= maxThreads) {
+            throw new IllegalArgumentException("reservedThreads must be between 0 and maxThreads - 1");
+        }
+        this.maxThreads = maxThreads;
+        maxBackgroundThreads = maxThreads - reservedThreads;
+        threads = Executors.newCachedThreadPool(threadFactory);
+    }
+
+    /**
+     * @param priority priority of the tasks
+     * @return executor that queues the tasks with the priority
+     */
+    Executor lane(RxSyncanoPriority priority) {
+        return task -> submit(task, priority);
+    }
+
+    private synchronized void submit(Runnable task, RxSyncanoPriority priority) {
+        (priority == RxSyncanoPriority.BACKGROUND ? background : interactive).add(task);
+        dispatch();
+    }
+
+    private synchronized void dispatch() {
+        while (running < maxThreads) {
+            Runnable task = interactive.poll();
+            boolean isBackground = false;
+            if(task == null && runningBackground < maxBackgroundThreads) {
+                task = background.poll();
+                isBackground = true;
+            }
+            if(task == null) {
+                return;
+            }
+            running++;
+            if(isBackground) {
+                runningBackground++;
+            }
+            Runnable next = task;
+            boolean nextIsBackground = isBackground;
+            threads.execute(() -> {
+                try {
+                    next.run();
+                }
+                finally {
+                    finished(nextIsBackground);
+                }
+            });
+        }
+    }
+
+    private synchronized void finished(boolean isBackground) {
+        running--;
+        if(isBackground) {
+            runningBackground--;
+        }
+        dispatch();
+    }
+}
@@ -0,0 +1,183 @@
+package rx.syncano;
+
+import android.content.SharedPreferences;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.data.PushDevice;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Func1;
+import rx.schedulers.Schedulers;
+
+/**
+ * Keeps the push devices registered in Syncano in sync with the registration ids of the app,
+ * sending only the requests that are needed.
+ *
+ * A {@link Store} records the registration ids already registered. {@link #reconcile(Collection)}
+ * compares it with the current registration ids, registers the new ones, deletes the ones that
+ * are gone and updates the record after every request, so starting the app with unchanged ids
+ * does not touch the network.
+ *
+ * <pre>
+ *     RxSyncanoPushDevices devices = new RxSyncanoPushDevices(syncano,
+ *             RxSyncanoPushDevices.preferencesStore(preferences, "push_devices"));
+ *     devices.reconcile(Collections.singleton(gcmToken)).subscribe();
+ * </pre>
+ */
+public class RxSyncanoPushDevices {
+
+    public static final int MAX_CONCURRENT_REQUESTS = 4;
+    public static final int MAX_RETRIES = 3;
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private final Syncano syncano;
+    private final Store store;
+    private final Func1<String, PushDevice> deviceFactory;
+    private final Scheduler scheduler;
+
+    /**
+     * @param syncano Syncano instance used to register and delete the devices
+     * @param store record of the registered devices
+     */
+    public RxSyncanoPushDevices(Syncano syncano, Store store) {
+        this(syncano, store, PushDevice::new, Schedulers.computation());
+    }
+
+    /**
+     * @param syncano Syncano instance used to register and delete the devices
+     * @param store record of the registered devices
+     * @param deviceFactory creates the device registered for a registration id, to set its
+     *                      label or device id
+     * @param scheduler Scheduler used to wait between retries
+     */
+    public RxSyncanoPushDevices(Syncano syncano, Store store, Func1<String, PushDevice> deviceFactory,
+                                Scheduler scheduler) {
+        this.syncano = syncano;
+        this.store = store;
+        this.deviceFactory = deviceFactory;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will register the
+     * registration ids missing in the store and delete the recorded ones that are not in
+     * registrationIds. It emits every registered or deleted device and, when some requests
+     * fail after their retries, reports the first error after all the others finished
+     *
+     * @param registrationIds registration ids that must be registered
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public Observable<PushDevice> reconcile(Collection<String> registrationIds) {
+        return Observable.defer(() -> {
+            Set<String> current = new HashSet<>(registrationIds);
+            Set<String> registered;
+            synchronized (store) {
+                registered = new HashSet<>(store.load());
+            }
+            List<Observable<PushDevice>> requests = new ArrayList<>();
+            for(String registrationId : current) {
+                if(!registered.contains(registrationId)) {
+                    requests.add(register(registrationId));
+                }
+            }
+            for(String registrationId : registered) {
+                if(!current.contains(registrationId)) {
+                    requests.add(delete(registrationId));
+                }
+            }
+            List<Throwable> errors = new ArrayList<>();
+            Observable<Observable<PushDevice>> collected = Observable.from(requests)
+                    .map(request -> request.onErrorResumeNext(throwable -> {
+                        synchronized (errors) {
+                            errors.add(throwable);
+                        }
+                        return Observable.empty();
+                    }));
+            return Observable.merge(collected, MAX_CONCURRENT_REQUESTS)
+                    .concatWith(Observable.defer(() -> {
+                        synchronized (errors) {
+                            return errors.isEmpty()
+                                    ? Observable.<PushDevice>empty()
+                                    : Observable.<PushDevice>error(errors.get(0));
+                        }
+                    }));
+        });
+    }
+
+    private Observable<PushDevice> register(String registrationId) {
+        return RxSyncanoRetry.withBackoff(() -> SyncanoObservable.registerPushDevice(syncano,
+                deviceFactory.call(registrationId)), MAX_RETRIES, scheduler)
+                .doOnNext(device -> record(registrationId, true));
+    }
+
+    private Observable<PushDevice> delete(String registrationId) {
+        PushDevice device = new PushDevice(registrationId);
+        return RxSyncanoRetry.withBackoff(() -> SyncanoObservable.deletePushDevice(syncano, device),
+                MAX_RETRIES, scheduler)
+                .onErrorResumeNext(throwable -> isNotFound(throwable)
+                        ? Observable.just(device)
+                        : Observable.<PushDevice>error(throwable))
+                .doOnNext(deleted -> record(registrationId, false));
+    }
+
+    private void record(String registrationId, boolean registered) {
+        synchronized (store) {
+            Set<String> registrationIds = new HashSet<>(store.load());
+            if(registered) {
+                registrationIds.add(registrationId);
+            }
+            else {
+                registrationIds.remove(registrationId);
+            }
+            store.save(registrationIds);
+        }
+    }
+
+    private static boolean isNotFound(Throwable throwable) {
+        return throwable instanceof RxSyncanoException
+                && ((RxSyncanoException) throwable).getHttpCode() == HTTP_NOT_FOUND;
+    }
+
+    /**
+     * @param preferences preferences where the registration ids are kept
+     * @param key key of the registration ids in the preferences
+     * @return a store that keeps the registration ids in the shared preferences
+     */
+    public static Store preferencesStore(SharedPreferences preferences, String key) {
+        return new Store() {
+            @Override
+            public Set<String> load() {
+                return new HashSet<>(preferences.getStringSet(key, new HashSet<>()));
+            }
+
+            @Override
+            public void save(Set<String> registrationIds) {
+                preferences.edit().putStringSet(key, registrationIds).apply();
+            }
+        };
+    }
+
+    /**
+     * Record of the registration ids registered in Syncano
+     */
+    public interface Store {
+
+        /**
+         * @return registration ids registered, never null
+         */
+        Set<String> load();
+
+        /**
+         * @param registrationIds registration ids registered after a successful request
+         */
+        void save(Set<String> registrationIds);
+    }
+}
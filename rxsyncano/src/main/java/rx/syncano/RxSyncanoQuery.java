@@ -0,0 +1,30 @@
+package rx.syncano;
+
+import com.syncano.library.api.Where;
+import com.syncano.library.data.SyncanoObject;
+
+/**
+ * Typed where criteria of a data class. Implementations are generated at compile time by the
+ * {@code rxsyncano-compiler} annotation processor for every class annotated with
+ * {@code @SyncanoClass}, with a method per field and comparison, and constants with the Syncano
+ * names of the class and its fields:
+ *
+ * <pre>
+ *     SyncanoObservable.get(syncano, MyClass_RxSyncanoQuery.where().nameEq("a").countGt(3))
+ *             .subscribe();
+ * </pre>
+ *
+ * @param <T> type of the data class
+ */
+public interface RxSyncanoQuery<T extends SyncanoObject> {
+
+    /**
+     * @return data class queried
+     */
+    Class<T> getType();
+
+    /**
+     * @return criteria added so far
+     */
+    Where<T> getWhere();
+}
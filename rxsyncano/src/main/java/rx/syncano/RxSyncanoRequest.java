@@ -0,0 +1,182 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.api.Request;
+import com.syncano.library.api.RequestGetList;
+import com.syncano.library.api.Response;
+import com.syncano.library.api.ResponseGetList;
+
+import java.util.List;
+
+import rx.Observable.OnSubscribe;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.functions.Func0;
+
+/**
+ * Sends a Syncano request when a Subscriber subscribes to it.
+ *
+ * Unlike {@code sendAsync}, the request is sent by a worker of the request Scheduler of the
+ * Syncano instance (see {@link RxSyncanoSchedulers}) bound to the subscription, so unsubscribing
+ * before the response arrives cancels it: a request still queued is never sent, and the response
+ * of a request already sent is not delivered. The HTTP call itself can't be aborted, so a request
+ * already sent may still be completed by Syncano.
+ *
+ * @param <R> type of the response data
+ * @param <T> type of the items emitted to the Subscriber
+ */
+abstract class RxSyncanoRequest<R, T> implements OnSubscribe<T> {
+
+    private final Syncano syncano;
+    private final Func0<? extends Response<R>> send;
+
+    /**
+     * @param syncano Syncano instance whose Schedulers are used, null for the default instance
+     * @param send sends the request, blocking until the response arrives
+     */
+    RxSyncanoRequest(Syncano syncano, Func0<? extends Response<R>> send) {
+        this.syncano = syncano;
+        this.send = send;
+    }
+
+    /**
+     * @param syncano Syncano instance that creates the request
+     * @param requestFactory creates the request to be sent for each subscription
+     * @param <T> type of the response data
+     * @return OnSubscribe that emits the response data and completes
+     */
+    static <T> OnSubscribe<T> single(Syncano syncano, Func0<? extends Request<T>> requestFactory) {
+        return new RxSyncanoRequest<T, T>(syncano, () -> requestFactory.call().send()) {
+            @Override
+            void onSuccess(Subscriber<? super T> subscriber, Response<T> response) {
+                subscriber.onNext(response.getData());
+                subscriber.onCompleted();
+            }
+        };
+    }
+
+    /**
+     * @param syncano Syncano instance that creates the request
+     * @param requestFactory creates the request to be sent for each subscription
+     * @param <T> type of the items of response list
+     * @return OnSubscribe that emits each item of the response list and completes
+     */
+    static <T> OnSubscribe<T> list(Syncano syncano, Func0<? extends Request<List<T>>> requestFactory) {
+        return new RxSyncanoRequest<List<T>, T>(syncano, () -> requestFactory.call().send()) {
+            @Override
+            void onSuccess(Subscriber<? super T> subscriber, Response<List<T>> response) {
+                emitAll(subscriber, response.getData());
+            }
+        };
+    }
+
+    /**
+     * @param syncano Syncano instance that creates the request
+     * @param requestFactory creates the request to be sent for each subscription
+     * @param <T> type of the items of response list
+     * @return OnSubscribe that emits the whole response, with the urls of the next and previous
+     * pages, and completes
+     */
+    static <T> OnSubscribe<ResponseGetList<T>> page(Syncano syncano,
+                                                    Func0<? extends RequestGetList<T>> requestFactory) {
+        return new RxSyncanoRequest<List<T>, ResponseGetList<T>>(syncano, () -> requestFactory.call().send()) {
+            @Override
+            @SuppressWarnings("unchecked")
+            void onSuccess(Subscriber<? super ResponseGetList<T>> subscriber, Response<List<T>> response) {
+                subscriber.onNext((ResponseGetList<T>) response);
+                subscriber.onCompleted();
+            }
+        };
+    }
+
+    /**
+     * For the calls Syncano only offers on data objects, users, {@code Where} and
+     * {@code RequestBuilder}, which send their request with the default Syncano instance
+     *
+     * @param send blocking call that sends the request, like {@code t.save()}
+     * @param <T> type of the response data
+     * @return OnSubscribe that runs the call on the Schedulers of the default Syncano instance,
+     * emits the response data and completes
+     */
+    static <T> OnSubscribe<T> blocking(Func0<? extends Response<T>> send) {
+        return blocking(null, send);
+    }
+
+    /**
+     * @param syncano Syncano instance whose Schedulers are used, null for the default instance
+     * @param send blocking call that sends the request
+     * @param <T> type of the response data
+     * @return OnSubscribe that runs the call on the Schedulers of the Syncano instance, emits the
+     * response data and completes
+     */
+    static <T> OnSubscribe<T> blocking(Syncano syncano, Func0<? extends Response<T>> send) {
+        return new RxSyncanoRequest<T, T>(syncano, send) {
+            @Override
+            void onSuccess(Subscriber<? super T> subscriber, Response<T> response) {
+                subscriber.onNext(response.getData());
+                subscriber.onCompleted();
+            }
+        };
+    }
+
+    /**
+     * @param send blocking call that sends the request, like {@code where.get()}
+     * @param <T> type of the items of response list
+     * @return OnSubscribe that runs the call on the Schedulers of the default Syncano instance,
+     * emits each item of the response list and completes
+     */
+    static <T> OnSubscribe<T> blockingList(Func0<? extends Response<List<T>>> send) {
+        return new RxSyncanoRequest<List<T>, T>(null, send) {
+            @Override
+            void onSuccess(Subscriber<? super T> subscriber, Response<List<T>> response) {
+                emitAll(subscriber, response.getData());
+            }
+        };
+    }
+
+    abstract void onSuccess(Subscriber<? super T> subscriber, Response<R> response);
+
+    private static <T> void emitAll(Subscriber<? super T> subscriber, List<T> items) {
+        for(T t: items) {
+            if(subscriber.isUnsubscribed()) {
+                return;
+            }
+            subscriber.onNext(t);
+        }
+        subscriber.onCompleted();
+    }
+
+    @Override
+    public void call(Subscriber<? super T> subscriber) {
+        Syncano instance = syncano != null ? syncano : Syncano.getInstance();
+        // the callbacks run with the priority of the request, so the requests subscribed from
+        // them, like the next page, keep it
+        RxSyncanoPriority priority = RxSyncanoPriority.current();
+        Scheduler.Worker requestWorker = RxSyncanoSchedulers.request(instance, priority).createWorker();
+        Scheduler.Worker callbackWorker = RxSyncanoSchedulers.callback(instance).createWorker();
+        subscriber.add(requestWorker);
+        subscriber.add(callbackWorker);
+        requestWorker.schedule(() -> {
+            try {
+                Response<R> response = send.call();
+                if(!subscriber.isUnsubscribed()) {
+                    callbackWorker.schedule(() -> priority.run(() -> deliver(subscriber, response)));
+                }
+            }
+            catch (Throwable throwable) {
+                if(!subscriber.isUnsubscribed()) {
+                    callbackWorker.schedule(() -> priority.run(() -> subscriber.onError(throwable)));
+                }
+            }
+        });
+    }
+
+    private void deliver(Subscriber<? super T> subscriber, Response<R> response) {
+        if(response.isSuccess()) {
+            onSuccess(subscriber, response);
+        }
+        else {
+            subscriber.onError(new RxSyncanoException(response));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package rx.syncano;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Func0;
+
+/**
+ * Retries requests that failed with transient errors, waiting longer after each attempt
+ */
+final class RxSyncanoRetry {
+
+    static final long INITIAL_BACKOFF_MILLIS = 500;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_SERVER_ERROR = 500;
+
+    /**
+     * @param request creates the Observable of the request, called again for every retry
+     * @param maxRetries how many times the request is sent again
+     * @param scheduler Scheduler used to wait between the attempts
+     * @return the request, retried while it fails with {@link #isTransient(Throwable) transient}
+     * errors
+     */
+    static <T> Observable<T> withBackoff(Func0<Observable<T>> request, int maxRetries, Scheduler scheduler) {
+        return attempt(request, 0, maxRetries, scheduler);
+    }
+
+    private static <T> Observable<T> attempt(Func0<Observable<T>> request, int attempt, int maxRetries,
+                                             Scheduler scheduler) {
+        return Observable.defer(request::call).onErrorResumeNext(throwable -> {
+            if(attempt >= maxRetries || !isTransient(throwable)) {
+                return Observable.error(throwable);
+            }
+            long backoff = INITIAL_BACKOFF_MILLIS << attempt;
+            return Observable.timer(backoff, TimeUnit.MILLISECONDS, scheduler)
+                    .flatMap(tick -> attempt(request, attempt + 1, maxRetries, scheduler));
+        });
+    }
+
+    /**
+     * @return true for network errors, timeouts, HTTP 429 and 5xx, that may succeed if sent
+     * again. Other exceptions, like a NullPointerException or a parse error, are bugs that fail
+     * again the same way
+     */
+    static boolean isTransient(Throwable throwable) {
+        if(throwable instanceof RxSyncanoException) {
+            int httpCode = ((RxSyncanoException) throwable).getHttpCode();
+            return httpCode == 0 || httpCode == HTTP_TOO_MANY_REQUESTS || httpCode >= HTTP_SERVER_ERROR;
+        }
+        for(Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if(cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RxSyncanoRetry() {
+        // disable instances
+    }
+}
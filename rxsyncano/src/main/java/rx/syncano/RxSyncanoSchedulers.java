@@ -0,0 +1,177 @@
+package rx.syncano;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.syncano.library.Syncano;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+/**
+ * Chooses the Schedulers used by the requests sent from {@link SyncanoObservable}.
+ *
+ * Each request is sent, and its response parsed, on the request Scheduler; the result is then
+ * delivered to the Subscriber on the callback Scheduler. By default requests are sent on
+ * {@link Schedulers#io()} and results delivered on the main thread, the same thread Syncano
+ * uses for {@code sendAsync} callbacks. Both can be changed for all Syncano instances or for a
+ * particular one:
+ *
+ * <pre>
+ *     RxSyncanoSchedulers.setSchedulers(syncano, Schedulers.from(pool), Schedulers.immediate());
+ * </pre>
+ *
+ * Using {@link Schedulers#immediate()} as callback Scheduler delivers the result on the request
+ * thread, keeping the Subscriber work out of the main thread.
+ *
+ * {@link #usePriorityLanes(Syncano, int, int)} keeps part of the request threads for
+ * interactive requests, so background synchronizations marked with
+ * {@link RxSyncanoPriority#BACKGROUND} don't stall the UI.
+ */
+public final class RxSyncanoSchedulers {
+
+    private static final Map<Syncano, Scheduler[]> SCHEDULERS = new WeakHashMap<>();
+
+    private static volatile Scheduler defaultRequestScheduler = Schedulers.io();
+    private static volatile Scheduler defaultCallbackScheduler;
+
+    /**
+     * Changes the Schedulers used by Syncano instances without particular Schedulers
+     *
+     * @param requestScheduler Scheduler where the requests are sent and parsed
+     * @param callbackScheduler Scheduler where the results are delivered to Subscribers
+     */
+    public static void setDefaultSchedulers(Scheduler requestScheduler, Scheduler callbackScheduler) {
+        defaultRequestScheduler = requestScheduler;
+        defaultCallbackScheduler = callbackScheduler;
+    }
+
+    /**
+     * Changes the Schedulers used by requests of a Syncano instance
+     *
+     * @param syncano Syncano instance that will use the Schedulers
+     * @param requestScheduler Scheduler where the requests are sent and parsed
+     * @param callbackScheduler Scheduler where the results are delivered to Subscribers
+     */
+    public static void setSchedulers(Syncano syncano, Scheduler requestScheduler, Scheduler callbackScheduler) {
+        synchronized (SCHEDULERS) {
+            SCHEDULERS.put(syncano, new Scheduler[]{requestScheduler, callbackScheduler});
+        }
+    }
+
+    /**
+     * Changes the executors used by requests of a Syncano instance, so thread pools can be sized
+     * for the workload of the application
+     *
+     * @param syncano Syncano instance that will use the executors
+     * @param requestExecutor executor where the requests are sent and parsed
+     * @param callbackExecutor executor where the results are delivered to Subscribers
+     */
+    public static void setExecutors(Syncano syncano, Executor requestExecutor, Executor callbackExecutor) {
+        setSchedulers(syncano, Schedulers.from(requestExecutor), Schedulers.from(callbackExecutor));
+    }
+
+    /**
+     * Makes a Syncano instance go back to the default Schedulers
+     *
+     * @param syncano Syncano instance with particular Schedulers
+     */
+    public static void reset(Syncano syncano) {
+        synchronized (SCHEDULERS) {
+            SCHEDULERS.remove(syncano);
+        }
+    }
+
+    /**
+     * Makes a Syncano instance send its requests on a pool of maxThreads threads, where
+     * reservedThreads are only used by {@link RxSyncanoPriority#INTERACTIVE} requests and queued
+     * interactive requests are sent before queued {@link RxSyncanoPriority#BACKGROUND} ones. Results
+     * are still delivered on the callback Scheduler of the instance
+     *
+     * @param syncano Syncano instance that will use priority lanes
+     * @param maxThreads maximum of requests sent at the same time
+     * @param reservedThreads threads kept for interactive requests, less than maxThreads
+     */
+    public static void usePriorityLanes(Syncano syncano, int maxThreads, int reservedThreads) {
+        RxSyncanoPriorityExecutor executor =
+                new RxSyncanoPriorityExecutor(maxThreads, reservedThreads, new DaemonThreadFactory());
+        Scheduler callbackScheduler = callback(syncano);
+        synchronized (SCHEDULERS) {
+            SCHEDULERS.put(syncano, new Scheduler[]{
+                    Schedulers.from(executor.lane(RxSyncanoPriority.INTERACTIVE)),
+                    callbackScheduler,
+                    Schedulers.from(executor.lane(RxSyncanoPriority.BACKGROUND))});
+        }
+    }
+
+    /**
+     * @return Scheduler that runs the actions on the Android main thread
+     */
+    public static Scheduler mainThread() {
+        return MainThread.SCHEDULER;
+    }
+
+    /**
+     * @param syncano Syncano instance sending the request
+     * @param priority priority of the request
+     * @return Scheduler where the requests of the instance are sent, with the priority of the
+     * request when the instance uses priority lanes
+     */
+    static Scheduler request(Syncano syncano, RxSyncanoPriority priority) {
+        Scheduler[] schedulers = get(syncano);
+        if(schedulers == null) {
+            return defaultRequestScheduler;
+        }
+        if(schedulers.length > 2 && priority == RxSyncanoPriority.BACKGROUND) {
+            return schedulers[2];
+        }
+        return schedulers[0];
+    }
+
+    /**
+     * @param syncano Syncano instance sending the request
+     * @return Scheduler where the responses of the instance are delivered
+     */
+    static Scheduler callback(Syncano syncano) {
+        Scheduler[] schedulers = get(syncano);
+        if(schedulers != null) {
+            return schedulers[1];
+        }
+        Scheduler callbackScheduler = defaultCallbackScheduler;
+        return callbackScheduler != null ? callbackScheduler : mainThread();
+    }
+
+    private static Scheduler[] get(Syncano syncano) {
+        synchronized (SCHEDULERS) {
+            return SCHEDULERS.get(syncano);
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "RxSyncanoBlocking-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Lazy holder, so applications that never deliver on the main thread don't touch the Looper
+     */
+    private static final class MainThread {
+        static final Scheduler SCHEDULER = Schedulers.from(new Handler(Looper.getMainLooper())::post);
+    }
+
+    private RxSyncanoSchedulers() {
+        // disable instances
+    }
+}
@@ -0,0 +1,58 @@
+package rx.syncano;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes and reads data objects in a compact binary format, for local caches and offline stores.
+ *
+ * Implementations are generated at compile time by the {@code rxsyncano-compiler} annotation
+ * processor for every class annotated with {@code @SyncanoClass}, using the fields annotated with
+ * {@code @SyncanoField}. Fields are read and written directly or through their accessors, except
+ * fields without accessible ones, which use reflection, and types without a binary encoding, which
+ * are written as json. Get them with
+ * {@link RxSyncanoSerializers#get(Class)}.
+ *
+ * @param <T> type of the data object
+ */
+public interface RxSyncanoSerializer<T> {
+
+    /**
+     * @return hash of the serialized fields and their types. Data written with another schema
+     * can't be read
+     */
+    int schema();
+
+    /**
+     * Writes the schema followed by the fields, so the data can be checked when it is read
+     *
+     * @param object data object to be written
+     * @param out destination of the data
+     * @throws IOException if out fails
+     */
+    void write(T object, DataOutput out) throws IOException;
+
+    /**
+     * @param in source of the data
+     * @return new data object with the fields read
+     * @throws IOException if in fails or the data was written with another schema
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Writes only the fields, for stores that check the schema once for many objects
+     *
+     * @param object data object to be written
+     * @param out destination of the data
+     * @throws IOException if out fails
+     */
+    void writeFields(T object, DataOutput out) throws IOException;
+
+    /**
+     * @param in source of data written by {@link #writeFields(Object, DataOutput)} with this schema
+     * @return new data object with the fields read
+     * @throws IOException if in fails
+     */
+    T readFields(DataInput in) throws IOException;
+}
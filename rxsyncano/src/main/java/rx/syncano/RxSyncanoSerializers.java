@@ -0,0 +1,117 @@
+package rx.syncano;
+
+import com.syncano.library.annotation.SyncanoClass;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Finds the {@link RxSyncanoSerializer}s generated by the {@code rxsyncano-compiler} annotation
+ * processor. Add it to the annotation processor path of the module with the data classes:
+ *
+ * <pre>
+ *     provided 'com.pablobaldez:rxsyncano-compiler:1.0.0'
+ * </pre>
+ *
+ * <pre>
+ *     byte[] bytes = RxSyncanoSerializers.toBytes(myObject);
+ *     MyClass copy = RxSyncanoSerializers.fromBytes(MyClass.class, bytes);
+ * </pre>
+ */
+public final class RxSyncanoSerializers {
+
+    /**
+     * Suffix of the name of the generated serializers. The serializer of {@code a.b.Outer$Inner}
+     * is {@code a.b.Outer_Inner_RxSyncanoSerializer}
+     */
+    public static final String SUFFIX = "_RxSyncanoSerializer";
+
+    private static final Map<Class<?>, RxSyncanoSerializer<?>> SERIALIZERS = new HashMap<>();
+
+    /**
+     * @param clazz data class annotated with {@code @SyncanoClass}
+     * @param <T> type of the data class
+     * @return the serializer generated for the class
+     * @throws IllegalArgumentException when no serializer was generated for the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RxSyncanoSerializer<T> get(Class<T> clazz) {
+        synchronized (SERIALIZERS) {
+            RxSyncanoSerializer<T> serializer = (RxSyncanoSerializer<T>) SERIALIZERS.get(clazz);
+            if(serializer == null) {
+                serializer = load(clazz);
+                SERIALIZERS.put(clazz, serializer);
+            }
+            return serializer;
+        }
+    }
+
+    /**
+     * @param object data object to be written, of a data class or of a subclass of it, like a
+     *               proxy. Only the fields of the data class are written
+     * @return the object written by the serializer generated for its data class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> byte[] toBytes(T object) {
+        RxSyncanoSerializer<T> serializer = (RxSyncanoSerializer<T>) get(dataClass(object.getClass()));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            serializer.write(object, new DataOutputStream(bytes));
+        }
+        catch (IOException e) {
+            // a ByteArrayOutputStream never fails
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param clazz data class of the object
+     * @param bytes object written by {@link #toBytes(Object)}
+     * @return new object with the fields read
+     * @throws IOException if the bytes are truncated or were written with another schema
+     */
+    public static <T> T fromBytes(Class<T> clazz, byte[] bytes) throws IOException {
+        return get(clazz).read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * @return the nearest class annotated with {@code @SyncanoClass}, or clazz itself when none
+     * is, so the error names the class of the object
+     */
+    private static Class<?> dataClass(Class<?> clazz) {
+        for(Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            if(c.isAnnotationPresent(SyncanoClass.class)) {
+                return c;
+            }
+        }
+        return clazz;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RxSyncanoSerializer<T> load(Class<T> clazz) {
+        String name = clazz.getName();
+        Package pkg = clazz.getPackage();
+        String packageName = pkg != null ? pkg.getName() : "";
+        String simpleNames = packageName.isEmpty() ? name : name.substring(packageName.length() + 1);
+        String serializerName = (packageName.isEmpty() ? "" : packageName + '.')
+                + simpleNames.replace('$', '_') + SUFFIX;
+        try {
+            return (RxSyncanoSerializer<T>) Class.forName(serializerName, true, clazz.getClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        }
+        catch (Exception e) {
+            throw new IllegalArgumentException("No serializer generated for " + name
+                    + ", is rxsyncano-compiler in the annotation processor path?", e);
+        }
+    }
+
+    private RxSyncanoSerializers() {
+        // disable instances
+    }
+}
@@ -0,0 +1,161 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.data.AbstractUser;
+
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.functions.Func0;
+
+/**
+ * Keeps the user session of a Syncano instance, authenticating again when it expires.
+ *
+ * Requests sent through {@link #call(Func0)} that fail because the user key is no longer valid
+ * (HTTP 401) trigger a new authentication and are sent again after it. HTTP 403 means the user
+ * isn't allowed to make the request, which a new authentication doesn't change, so it is just
+ * forwarded. Concurrent failures share a single authentication, and requests made while it runs
+ * wait for it instead of failing. Requests rejected after another authentication finished are
+ * just retried, so an expired session never causes a burst of logins.
+ *
+ * <pre>
+ *     RxSyncanoSession&lt;MyUser&gt; session = new RxSyncanoSession&lt;&gt;(syncano,
+ *             () -&gt; SyncanoObservable.loginUser(syncano, MyUser.class, name, password));
+ *     session.call(() -&gt; SyncanoObservable.getObjects(syncano, MyClass.class)).subscribe();
+ * </pre>
+ *
+ * @param <U> type of the authenticated user
+ */
+public class RxSyncanoSession<U extends AbstractUser> {
+
+    private static final int HTTP_UNAUTHORIZED = 401;
+
+    private final Syncano syncano;
+    private final Func0<Observable<U>> login;
+    private long maxAgeNanos;
+    private U user;
+    private long loggedInAt;
+    private Observable<U> authenticating;
+
+    /**
+     * @param syncano Syncano instance that holds the user key
+     * @param login creates the Observable that authenticates the user, usually one of the
+     *              {@code login} methods of {@link SyncanoObservable}
+     */
+    public RxSyncanoSession(Syncano syncano, Func0<Observable<U>> login) {
+        this.syncano = syncano;
+        this.login = login;
+    }
+
+    /**
+     * Authenticates the user again before a request when the session is older than maxAge,
+     * instead of waiting for a request to be rejected
+     *
+     * @param maxAge maximum age of the session, 0 to only authenticate after a rejection
+     * @param unit unit of maxAge
+     */
+    public synchronized void setMaxAge(long maxAge, TimeUnit unit) {
+        maxAgeNanos = unit.toNanos(maxAge);
+    }
+
+    /**
+     * @return last authenticated user, or null before the first authentication
+     */
+    public synchronized U getUser() {
+        return user;
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will authenticate the
+     * user. If an authentication is already running, it is shared instead of starting another
+     *
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public Observable<U> login() {
+        return Observable.defer(this::authenticate);
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will run the request
+     * inside the session: it waits for a running authentication, authenticates first when the
+     * session is older than its maximum age and, when the request is rejected because the
+     * session expired, authenticates again and retries it once
+     *
+     * @param request creates the Observable of the request, called again for the retry
+     * @param <R> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <R> Observable<R> call(Func0<Observable<R>> request) {
+        return Observable.defer(() -> {
+            Observable<U> pending = pendingAuthentication();
+            long sentAt = System.nanoTime();
+            Observable<R> send = Observable.defer(request::call);
+            Observable<R> first = pending == null ? send : pending.last().flatMap(u -> send);
+            return first.onErrorResumeNext(throwable -> {
+                if(!isSessionExpired(throwable)) {
+                    return Observable.<R>error(throwable);
+                }
+                return Observable.defer(() -> reauthenticate(sentAt)).last().flatMap(u -> send);
+            });
+        });
+    }
+
+    /**
+     * @return running authentication to wait for, a new one if the session is too old, or null
+     */
+    private synchronized Observable<U> pendingAuthentication() {
+        if(authenticating != null) {
+            return authenticating;
+        }
+        if(user != null && maxAgeNanos > 0 && System.nanoTime() - loggedInAt > maxAgeNanos) {
+            return authenticate();
+        }
+        return null;
+    }
+
+    /**
+     * @param rejectedSentAt when the rejected request was sent
+     * @return authentication to wait for before retrying. When another authentication finished
+     * after the request was sent, the request is retried with its user key instead
+     */
+    private synchronized Observable<U> reauthenticate(long rejectedSentAt) {
+        if(authenticating == null && user != null && loggedInAt - rejectedSentAt > 0) {
+            return Observable.just(user);
+        }
+        return authenticate();
+    }
+
+    private synchronized Observable<U> authenticate() {
+        if(authenticating != null) {
+            return authenticating;
+        }
+        Observable<U> authentication = login.call()
+                .doOnNext(this::onAuthenticated)
+                .finallyDo(this::onAuthenticationFinished)
+                .cache();
+        authenticating = authentication;
+        // a login completing synchronously clears authenticating before subscribe returns
+        authentication.subscribe(u -> { }, throwable -> { });
+        return authentication;
+    }
+
+    private synchronized void onAuthenticated(U user) {
+        this.user = user;
+        loggedInAt = System.nanoTime();
+        syncano.setUser(user);
+    }
+
+    private synchronized void onAuthenticationFinished() {
+        authenticating = null;
+    }
+
+    private static boolean isSessionExpired(Throwable throwable) {
+        if(!(throwable instanceof RxSyncanoException)) {
+            return false;
+        }
+        int httpCode = ((RxSyncanoException) throwable).getHttpCode();
+        return httpCode == HTTP_UNAUTHORIZED;
+    }
+}
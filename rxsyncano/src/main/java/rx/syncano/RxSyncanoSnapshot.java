@@ -0,0 +1,342 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.data.SyncanoObject;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+/**
+ * All the objects of a class saved in a file that is memory mapped, for reference data that is
+ * read often and rarely changes, like catalogs or locale tables.
+ *
+ * Objects are written with the {@link RxSyncanoSerializer} generated for the class, followed by
+ * an index sorted by id. The schema of the class is written once, after the index, instead of
+ * before every object. Opening a snapshot only maps the file; each object is decoded from the
+ * mapping when it is read, so the objects don't stay on the heap and startup doesn't wait for the
+ * network:
+ *
+ * <pre>
+ *     RxSyncanoSnapshot.load(syncano, Country.class, new File(getFilesDir(), "countries"))
+ *             .subscribe(countries -&gt; show(countries.get(countryId)));
+ * </pre>
+ *
+ * @param <T> type of the objects
+ */
+public class RxSyncanoSnapshot<T extends SyncanoObject> implements Closeable {
+
+    private static final int MAGIC = 0x52585353;
+    private static final int INDEX_ENTRY_SIZE = 12;
+    private static final int TRAILER_SIZE = 16;
+
+    private final RandomAccessFile file;
+    private final MappedByteBuffer buffer;
+    private final RxSyncanoSerializer<T> serializer;
+    private final int count;
+    private final int indexOffset;
+
+    private RxSyncanoSnapshot(RandomAccessFile file, MappedByteBuffer buffer, RxSyncanoSerializer<T> serializer,
+                              int count, int indexOffset) {
+        this.file = file;
+        this.buffer = buffer;
+        this.serializer = serializer;
+        this.count = count;
+        this.indexOffset = indexOffset;
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will open the snapshot
+     * saved in the file or, when there is none or it was written with another version of the
+     * class, download all the objects of the class and save them first
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The file is read and written on {@link Schedulers#io()}.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class of the objects
+     * @param file file of the snapshot
+     * @param <T> type of the objects
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<RxSyncanoSnapshot<T>> load(Syncano syncano, Class<T> clazz,
+                                                                                 File file) {
+        return Observable.defer(() -> {
+            if(file.exists()) {
+                try {
+                    return Observable.just(open(file, clazz));
+                }
+                catch (IOException e) {
+                    // outdated or corrupted, download it again
+                }
+            }
+            return refresh(syncano, clazz, file);
+        }).subscribeOn(Schedulers.io());
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will download all the
+     * objects of the class, replace the snapshot saved in the file and open it
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The file is written on {@link Schedulers#io()}.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class of the objects
+     * @param file file of the snapshot
+     * @param <T> type of the objects
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<RxSyncanoSnapshot<T>> refresh(Syncano syncano, Class<T> clazz,
+                                                                                    File file) {
+        return RxSyncanoPages.all(syncano, clazz, () -> syncano.getObjects(clazz))
+                .toList()
+                .observeOn(Schedulers.io())
+                .map(objects -> {
+                    try {
+                        write(file, clazz, objects);
+                        return open(file, clazz);
+                    }
+                    catch (IOException e) {
+                        throw new IllegalStateException("Could not save the snapshot of " + clazz.getName(), e);
+                    }
+                });
+    }
+
+    /**
+     * Saves the objects in the file, replacing it only after all of them were written
+     *
+     * @param file file of the snapshot
+     * @param clazz Syncano class of the objects
+     * @param objects objects to be saved, all with ids
+     * @throws IOException if the file can't be written
+     */
+    public static <T extends SyncanoObject> void write(File file, Class<T> clazz, List<T> objects)
+            throws IOException {
+        RxSyncanoSerializer<T> serializer = RxSyncanoSerializers.get(clazz);
+        List<T> sorted = new ArrayList<>(objects);
+        for(T object : sorted) {
+            if(object.getId() == null) {
+                throw new IllegalArgumentException("Objects of a snapshot must have ids");
+            }
+        }
+        Collections.sort(sorted, (first, second) -> first.getId().compareTo(second.getId()));
+        int[] offsets = new int[sorted.size() + 1];
+        File temporary = new File(file.getPath() + ".tmp");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+        try {
+            for(int i = 0; i < sorted.size(); i++) {
+                offsets[i] = out.size();
+                serializer.writeFields(sorted.get(i), out);
+            }
+            int indexOffset = out.size();
+            offsets[sorted.size()] = indexOffset;
+            for(int i = 0; i < sorted.size(); i++) {
+                out.writeInt(sorted.get(i).getId());
+                out.writeInt(offsets[i]);
+                out.writeInt(offsets[i + 1] - offsets[i]);
+            }
+            out.writeInt(sorted.size());
+            out.writeInt(indexOffset);
+            out.writeInt(serializer.schema());
+            out.writeInt(MAGIC);
+        }
+        finally {
+            out.close();
+        }
+        if(!temporary.renameTo(file)) {
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    /**
+     * Maps a snapshot saved by {@link #write(File, Class, List)}
+     *
+     * @param file file of the snapshot
+     * @param clazz Syncano class of the objects
+     * @return the snapshot, to be closed when it is no longer used
+     * @throws IOException if the file is not a snapshot of the current version of the class, or
+     * its index is corrupted
+     */
+    public static <T extends SyncanoObject> RxSyncanoSnapshot<T> open(File file, Class<T> clazz) throws IOException {
+        RxSyncanoSerializer<T> serializer = RxSyncanoSerializers.get(clazz);
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            long length = randomAccessFile.length();
+            if(length < TRAILER_SIZE || length > Integer.MAX_VALUE) {
+                throw new IOException("Not a snapshot: " + file);
+            }
+            MappedByteBuffer buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+            int trailer = (int) length - TRAILER_SIZE;
+            int count = buffer.getInt(trailer);
+            int indexOffset = buffer.getInt(trailer + 4);
+            if(buffer.getInt(trailer + 12) != MAGIC || count < 0
+                    || indexOffset < 0 || indexOffset + (long) count * INDEX_ENTRY_SIZE != trailer) {
+                throw new IOException("Not a snapshot: " + file);
+            }
+            if(buffer.getInt(trailer + 8) != serializer.schema()) {
+                throw new IOException("Snapshot written with another version of " + clazz.getName());
+            }
+            checkIndex(buffer, count, indexOffset, file);
+            return new RxSyncanoSnapshot<>(randomAccessFile, buffer, serializer, count, indexOffset);
+        }
+        catch (IOException e) {
+            randomAccessFile.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks the index once, so get and read can trust it: ids are ascending and the objects are
+     * written one after the other, from the start of the file to the index
+     */
+    private static void checkIndex(ByteBuffer buffer, int count, int indexOffset, File file) throws IOException {
+        long end = 0;
+        for(int position = 0; position < count; position++) {
+            int entry = indexOffset + position * INDEX_ENTRY_SIZE;
+            int offset = buffer.getInt(entry + 4);
+            int length = buffer.getInt(entry + 8);
+            if(offset != end || length < 0 || (long) offset + length > indexOffset
+                    || (position > 0 && buffer.getInt(entry - INDEX_ENTRY_SIZE) >= buffer.getInt(entry))) {
+                throw new IOException("Corrupted snapshot index: " + file);
+            }
+            end = (long) offset + length;
+        }
+        if(end != indexOffset) {
+            throw new IOException("Corrupted snapshot index: " + file);
+        }
+    }
+
+    /**
+     * @return number of objects in the snapshot
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param id id of the object
+     * @return the object decoded from the file, or null when there is no object with the id
+     */
+    public T get(int id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = buffer.getInt(indexOffset + middle * INDEX_ENTRY_SIZE);
+            if(middleId < id) {
+                low = middle + 1;
+            }
+            else if(middleId > id) {
+                high = middle - 1;
+            }
+            else {
+                return read(middle);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return ids of the objects, in ascending order. The list reads them from the file
+     */
+    public List<Integer> getIds() {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int position) {
+                return buffer.getInt(entry(position));
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * @return an Observable that decodes and emits the objects in ascending id order, only as
+     * they are requested
+     */
+    public Observable<T> getObjects() {
+        return Observable.range(0, count).map(this::read);
+    }
+
+    /**
+     * Stops reading the file. The mapping itself is released when it is garbage collected
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    private T read(int position) {
+        int entry = entry(position);
+        int offset = buffer.getInt(entry + 4);
+        int length = buffer.getInt(entry + 8);
+        ByteBuffer object = buffer.duplicate();
+        object.limit(offset + length).position(offset);
+        try {
+            return serializer.readFields(new DataInputStream(new ByteBufferInputStream(object)));
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Corrupted snapshot", e);
+        }
+    }
+
+    private int entry(int position) {
+        if(position < 0 || position >= count) {
+            throw new IndexOutOfBoundsException("position " + position + ", size " + count);
+        }
+        return indexOffset + position * INDEX_ENTRY_SIZE;
+    }
+
+    /**
+     * Reads a buffer without copying it to an array first
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if(!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.api.RequestGet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+
+/**
+ * Keeps the output of templates rendered by
+ * {@link SyncanoObservable#getObjectsWithTemplate(Syncano, RequestGet, String)}.
+ *
+ * Outputs younger than the maximum age are emitted without a request. Older outputs are
+ * revalidated by rendering the template again; if that fails, the old output is emitted instead
+ * of the error, so an export keeps working while offline.
+ */
+public class RxSyncanoTemplateCache {
+
+    private final Map<String, Rendered> outputs;
+    private final long maxAgeNanos;
+
+    /**
+     * @param maxSize maximum of outputs cached. The least recently used are discarded first
+     * @param maxAge how long an output is emitted without rendering it again
+     * @param unit unit of maxAge
+     */
+    public RxSyncanoTemplateCache(int maxSize, long maxAge, TimeUnit unit) {
+        maxAgeNanos = unit.toNanos(maxAge);
+        outputs = new LinkedHashMap<String, Rendered>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Rendered> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will emit the rendered
+     * template, from the cache while it is fresh
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param requestKey identifies the objects requested by requestGet, like its class and
+     *                   filters. Requests with the same key and template share the output
+     * @param requestGet request that will be used to get objects
+     * @param templateName name of a template that will be used to render result
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public Observable<String> getObjectsWithTemplate(Syncano syncano, String requestKey, RequestGet requestGet,
+                                                     String templateName) {
+        String key = key(requestKey, templateName);
+        return Observable.defer(() -> {
+            Rendered cached = get(key);
+            if(cached != null && System.nanoTime() - cached.renderedAt < maxAgeNanos) {
+                return Observable.just(cached.output);
+            }
+            Observable<String> render = SyncanoObservable.getObjectsWithTemplate(syncano, requestGet, templateName)
+                    .doOnNext(output -> put(key, output));
+            return cached == null ? render : render.onErrorReturn(throwable -> cached.output);
+        });
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will emit the rendered
+     * template in chunks of chunkSize characters, see
+     * {@link #getObjectsWithTemplate(Syncano, String, RequestGet, String)}
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param requestKey identifies the objects requested by requestGet
+     * @param requestGet request that will be used to get objects
+     * @param templateName name of a template that will be used to render result
+     * @param chunkSize maximum number of characters of each chunk
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public Observable<CharSequence> getObjectsWithTemplate(Syncano syncano, String requestKey, RequestGet requestGet,
+                                                           String templateName, int chunkSize) {
+        return getObjectsWithTemplate(syncano, requestKey, requestGet, templateName)
+                .concatMap(output -> Observable.create(new RxSyncanoChunks(output, chunkSize)));
+    }
+
+    /**
+     * Discards the cached output, so the next request renders the template again
+     *
+     * @param requestKey key of the request
+     * @param templateName name of the template
+     */
+    public void invalidate(String requestKey, String templateName) {
+        synchronized (outputs) {
+            outputs.remove(key(requestKey, templateName));
+        }
+    }
+
+    /**
+     * Discards all cached outputs
+     */
+    public void clear() {
+        synchronized (outputs) {
+            outputs.clear();
+        }
+    }
+
+    private Rendered get(String key) {
+        synchronized (outputs) {
+            return outputs.get(key);
+        }
+    }
+
+    private void put(String key, String output) {
+        synchronized (outputs) {
+            outputs.put(key, new Rendered(output, System.nanoTime()));
+        }
+    }
+
+    private static String key(String requestKey, String templateName) {
+        return templateName + ':' + requestKey;
+    }
+
+    private static class Rendered {
+
+        final String output;
+        final long renderedAt;
+
+        Rendered(String output, long renderedAt) {
+            this.output = output;
+            this.renderedAt = renderedAt;
+        }
+    }
+}
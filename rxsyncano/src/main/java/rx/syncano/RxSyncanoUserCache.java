@@ -0,0 +1,200 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.data.AbstractUser;
+import com.syncano.library.data.Profile;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import rx.Observable;
+import rx.functions.Func0;
+
+/**
+ * Caches the current user and the profiles of users, so screens can share them without
+ * requests.
+ *
+ * The current user is set by the login and fetch current user calls of {@link SyncanoObservable},
+ * and replaced by updates and fetches of the same user. Registering a user doesn't make it the
+ * current user. A profile is only loaded when it is first requested, and is discarded when its
+ * user changes. Concurrent loads of the same user or profile share one request.
+ *
+ * Users and profiles are kept for each Syncano instance, since each one has its own user. Calls
+ * made through a data object or a user, like {@link SyncanoObservable#login(AbstractUser)}, use
+ * the default instance.
+ */
+public final class RxSyncanoUserCache {
+
+    private static final Map<Syncano, Map<Class<?>, AbstractUser>> CURRENT_USERS = new WeakHashMap<>();
+    private static final Map<Syncano, Map<String, Profile>> PROFILES = new WeakHashMap<>();
+    private static final Map<Object, Observable<?>> LOADING = new HashMap<>();
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will emit the cached
+     * current user, loading it with
+     * {@link SyncanoObservable#fetchCurrentUser(Syncano, Class)} when it is not cached
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz class of the user
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Observable<T> getCurrentUser(Syncano syncano, Class<T> clazz) {
+        return Observable.defer(() -> {
+            T cached = cachedCurrentUser(syncano, clazz);
+            return cached != null
+                    ? Observable.just(cached)
+                    : load(Arrays.asList(syncano, clazz), () -> SyncanoObservable.fetchCurrentUser(syncano, clazz));
+        });
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will emit the cached
+     * profile of the user, loading it with {@link SyncanoObservable#fetchProfile(AbstractUser)}
+     * the first time it is requested. Profiles are kept for the default Syncano instance, which
+     * loads them
+     *
+     * @param u user owner of the profile
+     * @param <T> type of Profile and items emitted by Observable
+     * @param <U> type of Abstract user object
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Profile, U extends AbstractUser<? extends T>> Observable<T> getProfile(U u) {
+        return Observable.defer(() -> {
+            Syncano syncano = Syncano.getInstance();
+            String key = key(u);
+            T cached;
+            synchronized (PROFILES) {
+                cached = (T) profiles(syncano).get(key);
+            }
+            if(cached != null) {
+                return Observable.just(cached);
+            }
+            return load(Arrays.asList(syncano, key), () -> SyncanoObservable.<T, U>fetchProfile(u).doOnNext(profile -> {
+                synchronized (PROFILES) {
+                    profiles(syncano).put(key, profile);
+                }
+            }));
+        });
+    }
+
+    /**
+     * Discards the current users and profiles of a Syncano instance, usually after a logout
+     *
+     * @param syncano Syncano instance whose user logged out
+     */
+    public static void clear(Syncano syncano) {
+        synchronized (CURRENT_USERS) {
+            CURRENT_USERS.remove(syncano);
+        }
+        synchronized (PROFILES) {
+            PROFILES.remove(syncano);
+        }
+    }
+
+    /**
+     * Discards the current users and profiles of all Syncano instances
+     */
+    public static void clear() {
+        synchronized (CURRENT_USERS) {
+            CURRENT_USERS.clear();
+        }
+        synchronized (PROFILES) {
+            PROFILES.clear();
+        }
+    }
+
+    /**
+     * Keeps the user as the current user of its class on the Syncano instance
+     */
+    static void setCurrentUser(Syncano syncano, AbstractUser user) {
+        synchronized (CURRENT_USERS) {
+            currentUsers(syncano).put(user.getClass(), user);
+        }
+        invalidateProfile(syncano, user);
+    }
+
+    /**
+     * Replaces the current user of the Syncano instance by its new version, if it is the same user
+     */
+    static void updated(Syncano syncano, AbstractUser user) {
+        synchronized (CURRENT_USERS) {
+            Map<Class<?>, AbstractUser> users = currentUsers(syncano);
+            AbstractUser current = users.get(user.getClass());
+            if(current != null && current.getId() != null && current.getId().equals(user.getId())) {
+                users.put(user.getClass(), user);
+            }
+        }
+        invalidateProfile(syncano, user);
+    }
+
+    private static <T extends AbstractUser> T cachedCurrentUser(Syncano syncano, Class<T> clazz) {
+        synchronized (CURRENT_USERS) {
+            return clazz.cast(currentUsers(syncano).get(clazz));
+        }
+    }
+
+    private static void invalidateProfile(Syncano syncano, AbstractUser user) {
+        synchronized (PROFILES) {
+            profiles(syncano).remove(key(user));
+        }
+    }
+
+    /**
+     * @return current users of the Syncano instance, to be used holding the lock of CURRENT_USERS
+     */
+    private static Map<Class<?>, AbstractUser> currentUsers(Syncano syncano) {
+        Map<Class<?>, AbstractUser> users = CURRENT_USERS.get(syncano);
+        if(users == null) {
+            users = new HashMap<>();
+            CURRENT_USERS.put(syncano, users);
+        }
+        return users;
+    }
+
+    /**
+     * @return profiles of the Syncano instance, to be used holding the lock of PROFILES
+     */
+    private static Map<String, Profile> profiles(Syncano syncano) {
+        Map<String, Profile> profiles = PROFILES.get(syncano);
+        if(profiles == null) {
+            profiles = new HashMap<>();
+            PROFILES.put(syncano, profiles);
+        }
+        return profiles;
+    }
+
+    /**
+     * @return load running for the key, or a new one shared until it finishes
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Observable<T> load(Object key, Func0<Observable<T>> loader) {
+        synchronized (LOADING) {
+            Observable<T> loading = (Observable<T>) LOADING.get(key);
+            if(loading == null) {
+                loading = loader.call()
+                        .finallyDo(() -> {
+                            synchronized (LOADING) {
+                                LOADING.remove(key);
+                            }
+                        })
+                        .cache();
+                LOADING.put(key, loading);
+            }
+            return loading;
+        }
+    }
+
+    private static String key(AbstractUser user) {
+        return user.getClass().getName() + ':' + user.getId();
+    }
+
+    private RxSyncanoUserCache() {
+        // disable instances
+    }
+}
@@ -0,0 +1,282 @@
+package rx.syncano;
+
+import com.syncano.library.Syncano;
+import com.syncano.library.data.AbstractUser;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+/**
+ * Registers a stream of users, for imports that are too big for one
+ * {@link SyncanoObservable#registerUser(Syncano, AbstractUser)} per user.
+ *
+ * Registrations run with bounded concurrency and are started no faster than the configured rate.
+ * Transient failures (network errors, HTTP 429 and 5xx) are retried with exponential backoff,
+ * while users rejected by the server are reported without retrying. A retry may be rejected
+ * because the attempt that timed out did register the user, so such a rejection is checked by
+ * logging in with the credentials of the user, which only succeeds for the user this import
+ * registered. Every registered user is
+ * recorded in a {@link Checkpoint}, so an interrupted import can be run again with the same
+ * checkpoint and only the remaining users are sent.
+ *
+ * Registered users do not become the current user of the Syncano instance nor of
+ * {@link RxSyncanoUserCache}.
+ *
+ * <pre>
+ *     new RxSyncanoUserProvisioning&lt;MyUser&gt;(syncano)
+ *             .setMaxConcurrent(8)
+ *             .setRate(20)
+ *             .setCheckpoint(checkpoint)
+ *             .provision(users)
+ *             .filter(result -&gt; result.getStatus() != Status.REGISTERED)
+ *             .subscribe(this::report);
+ * </pre>
+ *
+ * @param <T> type of the registered users
+ */
+public class RxSyncanoUserProvisioning<T extends AbstractUser> {
+
+    public static final int DEFAULT_MAX_CONCURRENT = 4;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    private static final Object LOGIN_LOCK = new Object();
+
+    private final Syncano syncano;
+    private final Scheduler scheduler;
+    private int maxConcurrent = DEFAULT_MAX_CONCURRENT;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private long intervalNanos;
+    private long nextStart;
+    private Checkpoint checkpoint = memoryCheckpoint();
+
+    /**
+     * @param syncano Syncano instance used to register the users
+     */
+    public RxSyncanoUserProvisioning(Syncano syncano) {
+        this(syncano, Schedulers.computation());
+    }
+
+    /**
+     * @param syncano Syncano instance used to register the users
+     * @param scheduler Scheduler used to wait for the rate limit and the retries
+     */
+    public RxSyncanoUserProvisioning(Syncano syncano, Scheduler scheduler) {
+        this.syncano = syncano;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param maxConcurrent maximum number of registrations running at the same time
+     * @return this provisioning
+     */
+    public RxSyncanoUserProvisioning<T> setMaxConcurrent(int maxConcurrent) {
+        if(maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be positive");
+        }
+        this.maxConcurrent = maxConcurrent;
+        return this;
+    }
+
+    /**
+     * @param registrationsPerSecond maximum number of registrations started per second, 0 for
+     *                               no limit
+     * @return this provisioning
+     */
+    public synchronized RxSyncanoUserProvisioning<T> setRate(int registrationsPerSecond) {
+        if(registrationsPerSecond < 0) {
+            throw new IllegalArgumentException("registrationsPerSecond must not be negative");
+        }
+        intervalNanos = registrationsPerSecond == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / registrationsPerSecond;
+        return this;
+    }
+
+    /**
+     * @param maxRetries how many times a registration that failed with a transient error is sent
+     *                   again
+     * @return this provisioning
+     */
+    public RxSyncanoUserProvisioning<T> setMaxRetries(int maxRetries) {
+        if(maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative");
+        }
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * @param checkpoint records the registered users, usually persisted so an import can be
+     *                   resumed. Defaults to {@link #memoryCheckpoint()}
+     * @return this provisioning
+     */
+    public RxSyncanoUserProvisioning<T> setCheckpoint(Checkpoint checkpoint) {
+        this.checkpoint = checkpoint;
+        return this;
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will register the users
+     * not yet recorded in the checkpoint and emit one result per user, in the order the
+     * registrations finish. It only fails if the users Observable fails
+     *
+     * @param users users to be registered
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public Observable<Result<T>> provision(Observable<? extends T> users) {
+        return Observable.merge(users.map(this::provisionUser), maxConcurrent);
+    }
+
+    private Observable<Result<T>> provisionUser(T user) {
+        String userName = user.getUserName();
+        if(checkpoint.isProvisioned(userName)) {
+            return Observable.just(new Result<>(user, Status.SKIPPED, null));
+        }
+        return Observable.defer(() -> {
+            long delay = reserveStart();
+            Observable<T> registration = register(user);
+            return delay > 0
+                    ? Observable.timer(delay, TimeUnit.NANOSECONDS, scheduler).flatMap(tick -> registration)
+                    : registration;
+        })
+                .doOnNext(registered -> checkpoint.provisioned(userName))
+                .map(registered -> new Result<T>(registered, Status.REGISTERED, null))
+                .onErrorReturn(throwable -> new Result<>(user,
+                        RxSyncanoRetry.isTransient(throwable) ? Status.FAILED : Status.REJECTED, throwable));
+    }
+
+    private Observable<T> register(T user) {
+        AtomicBoolean uncertain = new AtomicBoolean();
+        return RxSyncanoRetry.withBackoff(
+                () -> Observable.create(RxSyncanoRequest.single(syncano, () -> syncano.registerUser(user)))
+                        .doOnError(throwable -> {
+                            if(RxSyncanoRetry.isTransient(throwable)) {
+                                uncertain.set(true);
+                            }
+                        }),
+                maxRetries, scheduler)
+                .onErrorResumeNext(throwable -> uncertain.get() && !RxSyncanoRetry.isTransient(throwable)
+                        ? loginAs(user).onErrorResumeNext(Observable.<T>error(throwable))
+                        : Observable.<T>error(throwable));
+    }
+
+    /**
+     * Checks whether an earlier attempt registered the user. The current user of the Syncano
+     * instance is restored after the login, and the logins of all the provisionings are
+     * serialized so they restore it in order
+     */
+    private Observable<T> loginAs(T user) {
+        return Observable.create(RxSyncanoRequest.blocking(syncano, () -> {
+            synchronized (LOGIN_LOCK) {
+                AbstractUser current = syncano.getUser();
+                try {
+                    return syncano.loginUser(user).send();
+                }
+                finally {
+                    syncano.setUser(current);
+                }
+            }
+        }));
+    }
+
+    /**
+     * @return nanoseconds to wait before starting the next registration
+     */
+    private synchronized long reserveStart() {
+        if(intervalNanos == 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long start = nextStart - now > 0 ? nextStart : now;
+        nextStart = start + intervalNanos;
+        return start - now;
+    }
+
+    /**
+     * @return a checkpoint kept in memory, that only skips users registered by the same instance
+     */
+    public static Checkpoint memoryCheckpoint() {
+        Set<String> provisioned = Collections.synchronizedSet(new HashSet<>());
+        return new Checkpoint() {
+            @Override
+            public boolean isProvisioned(String userName) {
+                return provisioned.contains(userName);
+            }
+
+            @Override
+            public void provisioned(String userName) {
+                provisioned.add(userName);
+            }
+        };
+    }
+
+    /**
+     * Records which users are already registered. It is called from the callback Scheduler of
+     * the Syncano instance, so it must be thread safe
+     */
+    public interface Checkpoint {
+
+        /**
+         * @param userName name of the user about to be registered
+         * @return true if the user was already registered and must be skipped
+         */
+        boolean isProvisioned(String userName);
+
+        /**
+         * @param userName name of the user just registered
+         */
+        void provisioned(String userName);
+    }
+
+    public enum Status {
+        /** the user was registered */
+        REGISTERED,
+        /** the checkpoint says the user was already registered, nothing was sent */
+        SKIPPED,
+        /** the server refused the user, like an invalid or already taken username */
+        REJECTED,
+        /** the registration kept failing with transient errors and may succeed if run again */
+        FAILED
+    }
+
+    /**
+     * Outcome of the registration of one user
+     *
+     * @param <T> type of the registered user
+     */
+    public static class Result<T extends AbstractUser> {
+
+        private final T user;
+        private final Status status;
+        private final Throwable error;
+
+        Result(T user, Status status, Throwable error) {
+            this.user = user;
+            this.status = status;
+            this.error = error;
+        }
+
+        /**
+         * @return registered user when REGISTERED, otherwise the user given to be registered
+         */
+        public T getUser() {
+            return user;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * @return error of the last attempt when REJECTED or FAILED, otherwise null
+         */
+        public Throwable getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package rx.syncano;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.syncano.library.Syncano;
+import com.syncano.library.data.SyncanoObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+import rx.subjects.AsyncSubject;
+
+/**
+ * Buffers the saves of data objects and sends them at every flush interval, one request per
+ * object with its latest state.
+ *
+ * Editors that save on every change would otherwise send a request per change. Each
+ * {@link #save(SyncanoObject)} records the fields that differ from the last state saved by this
+ * buffer and merges them over the changes still pending for the object, so saves of different
+ * copies of the same object don't undo each other. At the flush, objects without any effective
+ * change are not sent at all, and the others only send their changed fields, so fields changed by
+ * other clients meanwhile are not overwritten. Every subscriber receives the saved object once the flush that
+ * includes its changes succeeds. Changes made while the previous save of the object is being sent
+ * are sent right after it, if a flush happened in the meantime. Once an object was sent and has
+ * nothing pending, the buffer forgets it, so its next save sends all its fields.
+ *
+ * A save is queued when its Observable is subscribed and is sent even if the subscriber
+ * unsubscribes before the flush. Objects without id are created at once, as there is nothing to
+ * coalesce them with. Call {@link #shutdown()} before the application stops, so the pending saves
+ * are not lost.
+ */
+public class RxSyncanoWriteBehind {
+
+    private static final Set<String> READ_ONLY_FIELDS = new HashSet<>(
+            Arrays.asList("id", "revision", "created_at", "updated_at"));
+
+    private final Syncano syncano;
+    private final Update update;
+    private final Scheduler.Worker worker;
+    private final Map<String, Entry<?>> entries = new LinkedHashMap<>();
+    private boolean shutdown;
+
+    /**
+     * @param syncano Syncano instance used to save the objects
+     * @param flushInterval interval between flushes
+     * @param unit unit of flushInterval
+     */
+    public RxSyncanoWriteBehind(Syncano syncano, long flushInterval, TimeUnit unit) {
+        this(syncano, flushInterval, unit, Schedulers.computation());
+    }
+
+    /**
+     * @param syncano Syncano instance used to save the objects
+     * @param flushInterval interval between flushes
+     * @param unit unit of flushInterval
+     * @param scheduler Scheduler of the flush timer
+     */
+    public RxSyncanoWriteBehind(Syncano syncano, long flushInterval, TimeUnit unit, Scheduler scheduler) {
+        this(syncano, flushInterval, unit, scheduler, new Update() {
+            @Override
+            public <T extends SyncanoObject> Observable<T> call(T object) {
+                return SyncanoObservable.updateObject(syncano, object);
+            }
+        });
+    }
+
+    /**
+     * @param update sends the changed fields of an object, replaced by the tests
+     */
+    RxSyncanoWriteBehind(Syncano syncano, long flushInterval, TimeUnit unit, Scheduler scheduler, Update update) {
+        this.syncano = syncano;
+        this.update = update;
+        this.worker = scheduler.createWorker();
+        worker.schedulePeriodically(() -> flush().subscribe(object -> { }, throwable -> { }),
+                flushInterval, flushInterval, unit);
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will queue the current
+     * state of the object and emit the saved object after the flush that sends it
+     *
+     * @param t Data object to be saved. Changes made to it after the subscription are only saved
+     *          by a new save
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public <T extends SyncanoObject> Observable<T> save(T t) {
+        return Observable.defer(() -> {
+            if(t.getId() == null) {
+                return isShutdown() ? Observable.<T>error(shutdownError()) : SyncanoObservable.createObject(syncano, t);
+            }
+            return add(t);
+        });
+    }
+
+    /**
+     * Sends the pending saves now, without waiting the flush interval. Objects whose previous
+     * save is still being sent are sent as soon as it ends
+     *
+     * @return Observable that emits the saved objects and completes after all of them, and the
+     * saves still being sent, were sent. Failures of the objects are delayed until all the others
+     * are sent
+     */
+    public Observable<SyncanoObject> flush() {
+        List<Observable<? extends SyncanoObject>> requests = new ArrayList<>();
+        synchronized (this) {
+            // a save that ends synchronously removes its entry
+            for(Entry<?> entry : new ArrayList<>(entries.values())) {
+                Observable<? extends SyncanoObject> request = entry.flush(this);
+                if(request != null) {
+                    requests.add(request);
+                }
+                removeIfIdle(entry);
+            }
+        }
+        return Observable.mergeDelayError(Observable.from(requests));
+    }
+
+    /**
+     * Stops the flush timer and sends the pending saves. Saves made after the shutdown fail with
+     * {@link IllegalStateException}
+     *
+     * @return Observable that completes after the pending saves and the saves being sent were
+     * sent, see {@link #flush()}
+     */
+    public Observable<SyncanoObject> shutdown() {
+        synchronized (this) {
+            shutdown = true;
+        }
+        worker.unsubscribe();
+        return flush();
+    }
+
+    private synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T extends SyncanoObject> Observable<T> add(T t) {
+        if(shutdown) {
+            return Observable.error(shutdownError());
+        }
+        Class<T> clazz = (Class<T>) t.getClass();
+        String key = clazz.getName() + ':' + t.getId();
+        Entry<T> entry = (Entry<T>) entries.get(key);
+        if(entry == null) {
+            entry = new Entry<>(key, clazz, t.getId());
+            entries.put(key, entry);
+        }
+        return entry.add(RxSyncanoParser.toJson(t));
+    }
+
+    /**
+     * Forgets an object that isn't being sent and has nothing pending. Called with the lock held
+     */
+    private void removeIfIdle(Entry<?> entry) {
+        if(entry.inFlight == null && entry.pending == null && entries.get(entry.key) == entry) {
+            entries.remove(entry.key);
+        }
+    }
+
+    private static IllegalStateException shutdownError() {
+        return new IllegalStateException("Write behind buffer is shut down");
+    }
+
+    /**
+     * Sends the update of an object
+     */
+    interface Update {
+        <T extends SyncanoObject> Observable<T> call(T object);
+    }
+
+    /**
+     * Saves of an object. Guarded by the buffer lock
+     */
+    private static final class Entry<T extends SyncanoObject> {
+        final String key;
+        final Class<T> clazz;
+        final int id;
+        /** last state saved by the buffer, null until the first save */
+        JsonObject saved;
+        /** fields changed since saved, null when nothing is pending */
+        JsonObject pending;
+        AsyncSubject<T> result;
+        /** save being sent, null when none is */
+        Observable<T> inFlight;
+        /** whether pending is sent as soon as inFlight ends */
+        boolean followUp;
+
+        Entry(String key, Class<T> clazz, int id) {
+            this.key = key;
+            this.clazz = clazz;
+            this.id = id;
+        }
+
+        Observable<T> add(JsonObject state) {
+            if(pending == null) {
+                pending = new JsonObject();
+                result = AsyncSubject.create();
+            }
+            for(Map.Entry<String, JsonElement> field : state.entrySet()) {
+                if(!READ_ONLY_FIELDS.contains(field.getKey()) && changed(field.getKey(), field.getValue())) {
+                    pending.add(field.getKey(), field.getValue());
+                }
+            }
+            if(saved != null) {
+                // gson leaves null fields out of the json
+                for(Map.Entry<String, JsonElement> field : saved.entrySet()) {
+                    if(!READ_ONLY_FIELDS.contains(field.getKey()) && !state.has(field.getKey())
+                            && changed(field.getKey(), JsonNull.INSTANCE)) {
+                        pending.add(field.getKey(), JsonNull.INSTANCE);
+                    }
+                }
+            }
+            return result.asObservable();
+        }
+
+        /**
+         * Sends the pending changes, or marks them to be sent once the save being sent ends
+         *
+         * @return Observable that completes when the save being sent and the pending changes were
+         * sent, or null when there is nothing to wait for
+         */
+        Observable<T> flush(RxSyncanoWriteBehind buffer) {
+            if(inFlight == null) {
+                return send(buffer);
+            }
+            if(pending == null) {
+                return inFlight;
+            }
+            followUp = true;
+            return Observable.mergeDelayError(inFlight, result.asObservable());
+        }
+
+        /**
+         * @return request that saves the pending changes, or null when there is nothing to send
+         */
+        private Observable<T> send(RxSyncanoWriteBehind buffer) {
+            if(pending == null) {
+                return null;
+            }
+            JsonObject changes = new JsonObject();
+            boolean effective = false;
+            for(Map.Entry<String, JsonElement> field : pending.entrySet()) {
+                if(changed(field.getKey(), field.getValue())) {
+                    effective = true;
+                    changes.add(field.getKey(), field.getValue());
+                }
+            }
+            changes.addProperty("id", id);
+            AsyncSubject<T> waiting = result;
+            pending = null;
+            result = null;
+            if(!effective) {
+                waiting.onNext(RxSyncanoParser.fromJson(clazz, saved != null ? saved : changes));
+                waiting.onCompleted();
+                return null;
+            }
+            // the other fields are null, and Syncano leaves null fields out of the request
+            Observable<T> request = buffer.update.call(RxSyncanoParser.fromJson(clazz, changes))
+                    .doOnNext(savedObject -> {
+                        synchronized (buffer) {
+                            saved = RxSyncanoParser.toJson(savedObject);
+                        }
+                    })
+                    .finallyDo(() -> {
+                        synchronized (buffer) {
+                            inFlight = null;
+                            if(followUp || buffer.shutdown) {
+                                followUp = false;
+                                send(buffer);
+                            }
+                            buffer.removeIfIdle(this);
+                        }
+                    })
+                    .cache();
+            inFlight = request;
+            request.subscribe(waiting);
+            return request;
+        }
+
+        private boolean changed(String field, JsonElement value) {
+            if(saved == null) {
+                return true;
+            }
+            JsonElement savedValue = saved.has(field) ? saved.get(field) : JsonNull.INSTANCE;
+            return !savedValue.equals(value);
+        }
+    }
+}
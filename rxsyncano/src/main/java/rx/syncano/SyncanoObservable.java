@@ -3,8 +3,11 @@ package rx.syncano;
 import com.google.gson.JsonObject;
 import com.syncano.library.ChannelConnection;
 import com.syncano.library.Syncano;
+import com.syncano.library.api.FieldsFilter;
 import com.syncano.library.api.IncrementBuilder;
 import com.syncano.library.api.RequestGet;
+import com.syncano.library.api.RequestGetList;
+import com.syncano.library.api.Response;
 import com.syncano.library.api.Where;
 import com.syncano.library.choice.SocialAuthBackend;
 import com.syncano.library.data.AbstractUser;
@@ -18,8 +21,11 @@ import com.syncano.library.data.Trace;
 import com.syncano.library.data.User;
 import com.syncano.library.simple.RequestBuilder;
 
+import java.util.Collection;
+
 import rx.Observable;
 import rx.Observable.OnSubscribe;
+import rx.functions.Func1;
 
 /**
  * Created by pablobaldez on 24/04/16.
@@ -51,7 +57,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param t Data object to be saved
@@ -60,8 +68,16 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> save(T t){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                t.save(new RxSyncanoCallback<>(subscriber)));
+        return Observable.defer(() -> {
+            boolean creating = t.getId() == null;
+            return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                    t.save()))
+                    .doOnNext(saved -> {
+                        if(creating) {
+                            RxSyncanoCountEstimations.created(saved.getClass());
+                        }
+                    });
+        });
     }
 
     /**
@@ -70,7 +86,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param t Data object to be deleted
@@ -79,8 +97,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> delete(T t) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                t.delete(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                t.delete()))
+                .doOnCompleted(() -> RxSyncanoCountEstimations.deleted(t.getClass()));
     }
 
     /**
@@ -89,7 +108,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param t Data object to be fetched
@@ -98,8 +119,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> fetch(T t) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                t.fetch(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                t.fetch()));
     }
 
     /**
@@ -108,7 +129,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -119,8 +142,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> addition(Syncano syncano, T t, IncrementBuilder incrementBuilder) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.addition(t, incrementBuilder).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.addition(t, incrementBuilder)));
     }
 
     /**
@@ -129,7 +152,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -141,8 +166,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> addition(Syncano syncano, Class<T> clazz, int id, IncrementBuilder incrementBuilder){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.addition(clazz, id, incrementBuilder).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.addition(clazz, id, incrementBuilder)));
     }
 
     /**
@@ -151,7 +176,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -161,8 +188,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> getObject(Syncano syncano, T t){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.getObject(t).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.getObject(t)));
     }
 
     /**
@@ -171,7 +198,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -182,8 +211,35 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> getObject(Syncano syncano, Class<T> clazz,  int id) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.getObject(clazz, id).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.getObject(clazz, id)));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load an object
+     * with only the fields selected by the filter, leaving the others unset
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param id identifier used as reference
+     * @param fieldsFilter fields to be transferred and deserialized
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> getObject(Syncano syncano, Class<T> clazz, int id, FieldsFilter fieldsFilter) {
+        return Observable.create(RxSyncanoRequest.single(syncano, () -> {
+            RequestGet<T> request = syncano.getObject(clazz, id);
+            request.setFieldsFilter(fieldsFilter);
+            return request;
+        }));
     }
 
     /**
@@ -192,7 +248,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -202,8 +260,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> getObjects(Syncano syncano, Class<T> clazz){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.getObjects(clazz).sendAsync(new RxSyncanoListCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.list(syncano, () ->
+                syncano.getObjects(clazz)));
     }
 
     /**
@@ -213,7 +271,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -224,8 +284,117 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> getObjects(Syncano syncano, Class<T> clazz, String pageUrl){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.getObjects(clazz, pageUrl).sendAsync(new RxSyncanoListCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.list(syncano, () ->
+                syncano.getObjects(clazz, pageUrl)));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load all data
+     * objects of this class with only the fields selected by the filter, leaving the others
+     * unset. It reduces the bytes transferred, the parse time and the memory of each page
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param fieldsFilter fields to be transferred and deserialized
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> getObjects(Syncano syncano, Class<T> clazz, FieldsFilter fieldsFilter){
+        return Observable.create(RxSyncanoRequest.list(syncano, () -> {
+            RequestGetList<T> request = syncano.getObjects(clazz);
+            request.setFieldsFilter(fieldsFilter);
+            return request;
+        }));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load all data
+     * objects of this class from specific page, with only the fields selected by the filter.
+     * You can get this url by calling ResponseGetList.getNextPageUrl() or getPreviousPageUrl()
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param pageUrl page to request
+     * @param fieldsFilter fields to be transferred and deserialized
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> getObjects(Syncano syncano, Class<T> clazz, String pageUrl, FieldsFilter fieldsFilter){
+        return Observable.create(RxSyncanoRequest.list(syncano, () -> {
+            RequestGetList<T> request = syncano.getObjects(clazz, pageUrl);
+            request.setFieldsFilter(fieldsFilter);
+            return request;
+        }));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load the data
+     * objects of this class with the given ids, emitting them in the same order of the ids.
+     *
+     * The ids are split in chunks requested in parallel with an {@code in} filter. If some ids
+     * don't have an object, {@link RxSyncanoMissingObjectsException} is sent to
+     * subscriber.onError(Exception) after all the objects found were emitted.
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The requests are sent on the request Scheduler of the Syncano instance and the
+     *  results are delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the requests.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param ids ids of the objects to be loaded
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> getObjects(Syncano syncano, Class<T> clazz, Collection<Integer> ids){
+        return getObjects(syncano, clazz, ids, true);
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load the data
+     * objects of this class with the given ids.
+     *
+     * The ids are split in chunks requested in parallel with an {@code in} filter. If some ids
+     * don't have an object, {@link RxSyncanoMissingObjectsException} is sent to
+     * subscriber.onError(Exception) after all the objects found were emitted.
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The requests are sent on the request Scheduler of the Syncano instance and the
+     *  results are delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the requests.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param ids ids of the objects to be loaded
+     * @param ordered true to emit the objects in the same order of the ids, after all chunks
+     *                are loaded; false to emit them as each chunk arrives
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> getObjects(Syncano syncano, Class<T> clazz, Collection<Integer> ids, boolean ordered){
+        return RxSyncanoObjectsById.create(syncano, clazz, ids, ordered);
     }
 
     /**
@@ -234,7 +403,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -245,13 +416,22 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> deleteObject(Syncano syncano, Class<T> clazz, int id) {
-        return Observable.create((OnSubscribe<T>) subscriber -> syncano.deleteObject(clazz, id));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.deleteObject(clazz, id)))
+                .doOnCompleted(() -> RxSyncanoCountEstimations.deleted(clazz));
     }
 
     /**
      * Generate the Observable that, when a Subscriber subscribes to it, will Delete a Data
      * Object on Syncano
      *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
+     * </dl>
+     *
      * @param syncano Syncano instance used in this operation
      * @param t Syncano object to be deleted
      * @param <T> the type of the items that this Observable emits
@@ -259,8 +439,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> deleteObject(Syncano syncano, T t) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.deleteObject(t).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.deleteObject(t)))
+                .doOnCompleted(() -> RxSyncanoCountEstimations.deleted(t.getClass()));
     }
 
     /**
@@ -269,7 +450,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -279,8 +462,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> createObject(Syncano syncano,T t){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.createObject(t).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.createObject(t)))
+                .doOnCompleted(() -> RxSyncanoCountEstimations.created(t.getClass()));
     }
 
     /**
@@ -289,7 +473,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -301,8 +487,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> createObject(Syncano syncano, T t, boolean updateGivenObject) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.createObject(t, updateGivenObject).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.createObject(t, updateGivenObject)))
+                .doOnCompleted(() -> RxSyncanoCountEstimations.created(t.getClass()));
     }
 
     /**
@@ -311,7 +498,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -321,8 +510,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> updateObject(Syncano syncano, T t) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.updateObject(t).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.updateObject(t)));
     }
 
     /**
@@ -331,7 +520,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -343,8 +534,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> updateObject(Syncano syncano, T t, boolean updateGivenObject) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.updateObject(t, updateGivenObject).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.updateObject(t, updateGivenObject)));
     }
 
     /**
@@ -353,7 +544,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -364,8 +557,87 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> getObjectsDataEndpoint(Syncano syncano, Class<T> clazz, String dataEndpoint) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.getObjectsDataEndpoint(clazz, dataEndpoint).sendAsync(new RxSyncanoListCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.list(syncano, () ->
+                syncano.getObjectsDataEndpoint(clazz, dataEndpoint)));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will Get all Data
+     * Objects of a class, requesting its pages one after the other
+     *
+     * <dl>
+     *  <dt><b>Backpressure:</b></dt>
+     *  <dd>Objects are emitted as requested by the Subscriber. The next page is prefetched
+     *  while the objects of the current one are consumed.</dd>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The requests are sent on the request Scheduler of the Syncano instance and the
+     *  results are delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the requests.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> getAllObjects(Syncano syncano, Class<T> clazz) {
+        return RxSyncanoPages.all(syncano, clazz, () -> syncano.getObjects(clazz));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will Get all Data
+     * Objects of a data endpoint, requesting its pages one after the other
+     *
+     * <dl>
+     *  <dt><b>Backpressure:</b></dt>
+     *  <dd>Objects are emitted as requested by the Subscriber. The next page is prefetched
+     *  while the objects of the current one are consumed.</dd>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The requests are sent on the request Scheduler of the Syncano instance and the
+     *  results are delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the requests.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param dataEndpoint name of endpoint to be executed
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> getAllObjectsDataEndpoint(Syncano syncano, Class<T> clazz, String dataEndpoint) {
+        return RxSyncanoPages.all(syncano, clazz, () -> syncano.getObjectsDataEndpoint(clazz, dataEndpoint));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will Get all Data
+     * Objects of a data endpoint, requesting pages of pageSize objects one after the other
+     *
+     * <dl>
+     *  <dt><b>Backpressure:</b></dt>
+     *  <dd>Objects are emitted as requested by the Subscriber. The next page is prefetched
+     *  while the objects of the current one are consumed.</dd>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The requests are sent on the request Scheduler of the Syncano instance and the
+     *  results are delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the requests.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param dataEndpoint name of endpoint to be executed
+     * @param pageSize maximum number of objects of each page
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> getAllObjectsDataEndpoint(Syncano syncano, Class<T> clazz, String dataEndpoint, int pageSize) {
+        return RxSyncanoPages.all(syncano, clazz, () -> {
+            RequestGetList<T> request = syncano.getObjectsDataEndpoint(clazz, dataEndpoint);
+            request.setLimit(pageSize);
+            return request;
+        });
     }
 
     /**
@@ -374,7 +646,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -384,8 +658,37 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<String> getObjectsWithTemplate(Syncano syncano, RequestGet requestGet, String templateName){
-        return Observable.create((OnSubscribe<String>) subscriber ->
-                syncano.getObjectsWithTemplate(requestGet, templateName).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.getObjectsWithTemplate(requestGet, templateName)));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will Renders a
+     * template with objects got from given request and emit the output in chunks of at most
+     * chunkSize characters. Syncano reads the whole response into one String before it is
+     * returned, so this doesn't stream the download nor lower its memory peak: it only re-chunks
+     * the received output. Chunks are views of that String emitted only as they are requested, so
+     * a large export can be written out without building more copies of it
+     *
+     * <dl>
+     *  <dt><b>Backpressure:</b></dt>
+     *  <dd>Chunks are emitted as requested by the Subscriber.</dd>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param requestGet request that will be used to get objects
+     * @param templateName name of a template that will be used to render result
+     * @param chunkSize maximum number of characters of each chunk
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static Observable<CharSequence> getObjectsWithTemplate(Syncano syncano, RequestGet requestGet, String templateName, int chunkSize){
+        return getObjectsWithTemplate(syncano, requestGet, templateName)
+                .concatMap(output -> Observable.create(new RxSyncanoChunks(output, chunkSize)));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -399,7 +702,9 @@ public class SyncanoObservable {
      * set to true.
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param t User to be registered
@@ -407,9 +712,10 @@ public class SyncanoObservable {
      * @return an Observable that, when a Subscriber subscribes to it, will execute the
      * specified function
      */
+    @SuppressWarnings("unchecked")
     public static <T extends AbstractUser> Observable<T> register(T t){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                t.register(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                (Response<T>) t.register()));
     }
 
     /**
@@ -417,7 +723,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param t User to be fetched
@@ -425,9 +733,11 @@ public class SyncanoObservable {
      * @return an Observable that, when a Subscriber subscribes to it, will execute the
      * specified function
      */
+    @SuppressWarnings("unchecked")
     public static <T extends AbstractUser> Observable<T> fetch(T t) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                t.fetch(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                (Response<T>) t.fetch()))
+                .doOnNext(u -> RxSyncanoUserCache.updated(Syncano.getInstance(), u));
     }
 
     /**
@@ -435,7 +745,9 @@ public class SyncanoObservable {
      * profile
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param u user profile to be fetched
@@ -445,8 +757,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends Profile, U extends AbstractUser<? extends T>> Observable<T> fetchProfile(U u) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                u.fetchProfile(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                u.fetchProfile()));
     }
 
     /**
@@ -455,7 +767,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param t user to be authenticated
@@ -463,9 +777,11 @@ public class SyncanoObservable {
      * @return an Observable that, when a Subscriber subscribes to it, will execute the
      * specified function
      */
+    @SuppressWarnings("unchecked")
     public static <T extends AbstractUser> Observable<T> login(T t) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                t.login(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                (Response<T>) t.login()))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(Syncano.getInstance(), u));
     }
 
     /**
@@ -474,7 +790,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param user user to be authenticated
@@ -482,9 +800,11 @@ public class SyncanoObservable {
      * @return an Observable that, when a Subscriber subscribes to it, will execute the
      * specified function
      */
+    @SuppressWarnings("unchecked")
     public static <T extends AbstractUser> Observable<T> loginSocialUser(T user) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                user.loginSocialUser(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                (Response<T>) user.loginSocialUser()))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(Syncano.getInstance(), u));
     }
 
     /**
@@ -493,7 +813,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -504,8 +826,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends AbstractUser> Observable<T> getUser(Syncano syncano, Class<T> clazz, int id){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.getUser(clazz, id).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.getUser(clazz, id)));
     }
 
     /**
@@ -514,7 +836,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -523,8 +847,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<User> getUser(Syncano syncano, int id) {
-        return Observable.create((OnSubscribe<User>) subscriber ->
-                syncano.getUser(id).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.getUser(id)));
     }
 
     /**
@@ -533,7 +857,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -543,8 +869,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends AbstractUser> Observable<T> fetchCurrentUser(Syncano syncano, Class<T> clazz){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.fetchCurrentUser(clazz).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.fetchCurrentUser(clazz)))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(syncano, u));
     }
 
     /**
@@ -553,7 +880,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -563,8 +892,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends AbstractUser> Observable<T> fetchCurrentUser(Syncano syncano, T user) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.fetchCurrentUser(user).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.fetchCurrentUser(user)))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(syncano, u));
     }
 
     /**
@@ -573,7 +903,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -583,8 +915,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends AbstractUser> Observable<T> registerUser(Syncano syncano, T t){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.registerUser(t).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.registerUser(t)));
     }
 
     /**
@@ -592,7 +924,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -601,8 +935,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<User> updateUser(Syncano syncano, User user) {
-        return Observable.create((OnSubscribe<User>) subscriber ->
-                syncano.updateUser(user).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.updateUser(user)))
+                .doOnNext(u -> RxSyncanoUserCache.updated(syncano, u));
     }
 
     /**
@@ -611,7 +946,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -621,8 +958,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends AbstractUser> Observable<T> updateCustomUser(Syncano syncano, T t) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.updateCustomUser(t).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.updateCustomUser(t)))
+                .doOnNext(u -> RxSyncanoUserCache.updated(syncano, u));
     }
 
     /**
@@ -631,7 +969,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -641,9 +981,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends AbstractUser> Observable<T> loginUser(Syncano syncano, T t) {
-        t.login();
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.loginUser(t).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.loginUser(t)))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(syncano, u));
     }
 
     /**
@@ -652,7 +992,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -662,8 +1004,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<User> loginUser(Syncano syncano, String username, String password) {
-        return Observable.create((OnSubscribe<User>) subscriber ->
-                syncano.loginUser(username, password).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.loginUser(username, password)))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(syncano, u));
     }
 
     /**
@@ -672,7 +1015,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -684,8 +1029,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends AbstractUser> Observable<T> loginUser(Syncano syncano, Class<T> clazz, String username, String password) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.loginUser(clazz, username, password));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.loginUser(clazz, username, password)))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(syncano, u));
     }
 
     /**
@@ -694,7 +1040,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -706,8 +1054,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends AbstractUser> Observable<T> loginSocialUser(Syncano syncano, Class<T> clazz, SocialAuthBackend socialAuthBackend, String authToken) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.loginSocialUser(clazz, socialAuthBackend, authToken));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.loginSocialUser(clazz, socialAuthBackend, authToken)))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(syncano, u));
     }
 
     /**
@@ -716,7 +1065,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -726,8 +1077,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<User> loginSocialUser(Syncano syncano, SocialAuthBackend socialAuthBackend, String authToken){
-        return Observable.create((OnSubscribe<User>) subscriber ->
-                syncano.loginSocialUser(socialAuthBackend, authToken).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.loginSocialUser(socialAuthBackend, authToken)))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(syncano, u));
     }
 
     /**
@@ -736,7 +1088,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -746,8 +1100,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends AbstractUser> Observable<T> loginSocialUser(Syncano syncano, T t){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.loginSocialUser(t).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.loginSocialUser(t)))
+                .doOnNext(u -> RxSyncanoUserCache.setCurrentUser(syncano, u));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -759,7 +1114,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param where instance load the objects
@@ -768,8 +1125,84 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> get(Where<T> where) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                where.get(new RxSyncanoListCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blockingList(() ->
+                where.get()));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load the objects
+     * that match the where criteria
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param where criteria used to filter the objects
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> get(Syncano syncano, Class<T> clazz, Where<T> where) {
+        return Observable.create(RxSyncanoRequest.list(syncano, () -> {
+            RequestGetList<T> request = syncano.getObjects(clazz);
+            request.setWhereFilter(where);
+            return request;
+        }));
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load the objects
+     * that match a query generated by the {@code rxsyncano-compiler} annotation processor
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param query typed criteria used to filter the objects
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> get(Syncano syncano, RxSyncanoQuery<T> query) {
+        return get(syncano, query.getType(), query.getWhere());
+    }
+
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load the objects
+     * that match the where criteria, with only the fields selected by the filter, leaving the
+     * others unset
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param where criteria used to filter the objects
+     * @param fieldsFilter fields to be transferred and deserialized
+     * @param <T> the type of the items that this Observable emits
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<T> get(Syncano syncano, Class<T> clazz, Where<T> where, FieldsFilter fieldsFilter) {
+        return Observable.create(RxSyncanoRequest.list(syncano, () -> {
+            RequestGetList<T> request = syncano.getObjects(clazz);
+            request.setWhereFilter(where);
+            request.setFieldsFilter(fieldsFilter);
+            return request;
+        }));
     }
 
     /**
@@ -778,7 +1211,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param clazz Syncano class that will be requested
@@ -797,7 +1232,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param builder instance load the objects
@@ -806,8 +1243,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> get(RequestBuilder<T> builder) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                builder.get(new RxSyncanoListCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blockingList(() ->
+                builder.get()));
     }
 
     /**
@@ -816,7 +1253,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param clazz Syncano class that will be requested.
@@ -826,17 +1265,22 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<T> get(Class<T> clazz, int id){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                Syncano.please(clazz).get(id, new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                Syncano.please(clazz).get(id)));
     }
 
     /**
      * Generate the Observable that, when a Subscriber subscribes to it, will load the count
-     * estimation of a current object.
+     * estimation of a current object. The count is always requested, and the response is cached
+     * by {@link RxSyncanoCountEstimations}. Use
+     * {@link RxSyncanoCountEstimations#getCountEstimation(Class, long, java.util.concurrent.TimeUnit)}
+     * to skip the request while the cached count is fresh.
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param clazz Syncano class that will be requested.
@@ -845,8 +1289,9 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T extends SyncanoObject> Observable<Integer> getCountEstimation(Class<T> clazz) {
-        return Observable.create((OnSubscribe<Integer>) subscriber ->
-                Syncano.please(clazz).getCountEstimation(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<Integer>blocking(() ->
+                Syncano.please(clazz).getCountEstimation()))
+                .doOnNext(count -> RxSyncanoCountEstimations.update(clazz, count));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -857,7 +1302,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param se Endpoint that will be executed
@@ -865,8 +1312,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> run(ScriptEndpoint se) {
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                se.run(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<Trace>blocking(() ->
+                se.run()));
     }
 
     /**
@@ -875,7 +1322,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param se endpoint that will be executed
@@ -884,8 +1333,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> run(ScriptEndpoint se, JsonObject payload) {
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                se.run(payload, new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<Trace>blocking(() ->
+                se.run(payload)));
     }
 
     /**
@@ -894,7 +1343,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>Ø@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param se endpoint that will be executed
@@ -902,8 +1353,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<String> runCustomResponse(ScriptEndpoint se) {
-        return Observable.create((OnSubscribe<String>) subscriber ->
-                se.runCustomResponse(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<String>blocking(() ->
+                se.runCustomResponse()));
     }
 
     /**
@@ -912,7 +1363,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param se endpoint that will be executed
@@ -922,8 +1375,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T> Observable<T> runCustomResponse(ScriptEndpoint se, Class<T> clazz) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                se.runCustomResponse(clazz, new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                se.runCustomResponse(clazz)));
     }
 
     /**
@@ -933,7 +1386,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param se endpoint that will be executed
@@ -944,8 +1399,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T> Observable<T> runCustomResponse(ScriptEndpoint se, Class<T> clazz, JsonObject payload) {
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                se.runCustomResponse(clazz, payload, new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<T>blocking(() ->
+                se.runCustomResponse(clazz, payload)));
     }
 
     /**
@@ -954,7 +1409,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -963,8 +1420,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<String> runScriptEndpointCustomResponse(Syncano syncano, ScriptEndpoint scriptEndpoint){
-        return Observable.create((OnSubscribe<String>) subscriber ->
-                syncano.runScriptEndpointCustomResponse(scriptEndpoint).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpointCustomResponse(scriptEndpoint)));
     }
 
     /**
@@ -973,7 +1430,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -983,8 +1442,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<String> runScriptEndpointCustomResponse(Syncano syncano, ScriptEndpoint scriptEndpoint, JsonObject payload){
-        return Observable.create((OnSubscribe<String>) subscriber ->
-                syncano.runScriptEndpointCustomResponse(scriptEndpoint, payload).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpointCustomResponse(scriptEndpoint, payload)));
     }
 
     /**
@@ -993,7 +1452,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1004,8 +1465,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T> Observable<T> runScriptEndpointCustomResponse(Syncano syncano, ScriptEndpoint scriptEndpoint, Class<T> clazz){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.runScriptEndpointCustomResponse(scriptEndpoint, clazz).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpointCustomResponse(scriptEndpoint, clazz)));
     }
 
     /**
@@ -1014,7 +1475,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1026,8 +1489,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T> Observable<T>  runScriptEndpointCustomResponse(Syncano syncano, ScriptEndpoint scriptEndpoint, Class<T> clazz, JsonObject payload){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.runScriptEndpointCustomResponse(scriptEndpoint, clazz, payload).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpointCustomResponse(scriptEndpoint, clazz, payload)));
     }
 
     /**
@@ -1036,7 +1499,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1045,8 +1510,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<String> runScriptEndpointCustomResponse(Syncano syncano, String name){
-        return Observable.create((OnSubscribe<String>) subscriber ->
-                syncano.runScriptEndpointCustomResponse(name).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpointCustomResponse(name)));
     }
 
     /**
@@ -1055,7 +1520,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1065,8 +1532,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<String> runScriptEndpointCustomResponse(Syncano syncano, String name, JsonObject payload){
-        return Observable.create((OnSubscribe<String>) subscriber ->
-                syncano.runScriptEndpointCustomResponse(name, payload).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpointCustomResponse(name, payload)));
     }
 
     /**
@@ -1075,7 +1542,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1086,8 +1555,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T> Observable<T> runScriptEndpointCustomResponse(Syncano syncano, String name, Class<T> clazz){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.runScriptEndpointCustomResponse(name, clazz).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpointCustomResponse(name, clazz)));
     }
 
     /**
@@ -1096,7 +1565,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1108,8 +1579,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static <T> Observable<T>  runScriptEndpointCustomResponse(Syncano syncano, String name, Class<T> clazz, JsonObject payload){
-        return Observable.create((OnSubscribe<T>) subscriber ->
-                syncano.runScriptEndpointCustomResponse(name, clazz, payload).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpointCustomResponse(name, clazz, payload)));
     }
 
     /**
@@ -1118,7 +1589,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1127,8 +1600,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> runScriptEndpoint(Syncano syncano, ScriptEndpoint scriptEndpoint) {
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                syncano.runScriptEndpoint(scriptEndpoint).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpoint(scriptEndpoint)));
     }
 
     /**
@@ -1137,7 +1610,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1147,8 +1622,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> runScriptEndpoint(Syncano syncano, ScriptEndpoint scriptEndpoint, JsonObject payload) {
-        return Observable.create((OnSubscribe<Trace>) subscriber -> syncano.
-                runScriptEndpoint(scriptEndpoint, payload).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpoint(scriptEndpoint, payload)));
     }
 
     /**
@@ -1157,7 +1632,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1166,8 +1643,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> runScriptEndpoint(Syncano syncano, String name) {
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                syncano.runScriptEndpoint(name).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpoint(name)));
     }
 
     /**
@@ -1176,7 +1653,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1186,8 +1665,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> runScriptEndpoint(Syncano syncano, String name, JsonObject payload) {
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                syncano.runScriptEndpoint(name, payload).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScriptEndpoint(name, payload)));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -1199,7 +1678,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param script script to run
@@ -1207,8 +1688,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> run(Script script){
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                script.run(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<Trace>blocking(() ->
+                script.run()));
     }
 
     /**
@@ -1217,7 +1698,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param script script to run
@@ -1226,8 +1709,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> run(Script script, JsonObject payload){
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                script.run(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<Trace>blocking(() ->
+                script.run(payload)));
     }
 
     /**
@@ -1236,7 +1719,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1245,8 +1730,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> runScript(Syncano syncano, int id){
-        return Observable.create((OnSubscribe<Trace>)
-                subscriber -> syncano.runScript(id).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScript(id)));
     }
 
     /**
@@ -1255,7 +1740,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1265,8 +1752,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> runScript(Syncano syncano, int id, JsonObject payload){
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                syncano.runScript(id, payload).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScript(id, payload)));
     }
 
     /**
@@ -1275,7 +1762,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1284,8 +1773,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> runScript(Syncano syncano, Script script){
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                syncano.runScript(script).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScript(script)));
     }
 
     /**
@@ -1294,7 +1783,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1304,8 +1795,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> runScript(Syncano syncano, Script script, JsonObject payload){
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                syncano.runScript(script, payload).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.runScript(script, payload)));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -1317,7 +1808,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param trace trace to be fetched
@@ -1325,8 +1818,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> fetch(Trace trace) {
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                trace.fetch(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.<Trace>blocking(() ->
+                trace.fetch()));
     }
 
     /**
@@ -1335,7 +1828,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1344,8 +1839,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> getTrace(Syncano syncano, Trace trace) {
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                syncano.getTrace(trace).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.getTrace(trace)));
     }
 
     /**
@@ -1354,7 +1849,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1364,8 +1861,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Trace> getTrace(Syncano syncano, int scriptId, int traceId) {
-        return Observable.create((OnSubscribe<Trace>) subscriber ->
-                syncano.getTrace(scriptId, traceId).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.getTrace(scriptId, traceId)));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -1447,13 +1944,47 @@ public class SyncanoObservable {
         }).doOnUnsubscribe(channelConnection::stop);
     }
 
+    /**
+     * Generate the Observable that, when a Subscriber subscribes to it, will load the objects
+     * that match the where criteria once and then keep this result set updated with the create,
+     * update and delete notifications of the channel where the objects are published, instead
+     * of polling the query again.
+     *
+     * The initial result set holds the objects of all the pages of the query. Each of its
+     * objects is emitted as {@link RxSyncanoChange.Type#INSERTED};
+     * after that, every change applied to the result set is emitted. Syncano can't tell if a
+     * notified object matches the where criteria, so the matcher must evaluate the same
+     * criteria locally. Objects created are appended to the end of the result set.
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The pages of the query are sent on the request Scheduler of the Syncano instance,
+     *  see {@link RxSyncanoSchedulers}. Notifications are delivered on the channel thread.
+     *  Unsubscribing stops the channel connection.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param where criteria of the initial query
+     * @param matcher evaluates locally whether a notified object matches the where criteria
+     * @param channelName name of channel where the objects of the class are published
+     * @param <T> the type of the objects of the result set
+     * @return an Observable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Observable<RxSyncanoChange<T>> liveQuery(Syncano syncano, Class<T> clazz, Where<T> where, Func1<? super T, Boolean> matcher, String channelName) {
+        return Observable.create(new RxSyncanoLiveQuery<>(syncano, clazz, where, matcher, channelName));
+    }
+
     /**
      * Generate the Observable that, when a Subscriber subscribes to it, will Publish custom
      * message
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1463,8 +1994,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Notification> publishOnChannel(Syncano syncano, String channelName, Notification notification) {
-        return Observable.create((OnSubscribe<Notification>) subscriber ->
-                syncano.publishOnChannel(channelName, notification).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.publishOnChannel(channelName, notification)));
     }
 
     /**
@@ -1473,7 +2004,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1482,8 +2015,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Notification> getChannelHistory(Syncano syncano, String channelName) {
-        return Observable.create((OnSubscribe<Notification>) subscriber ->
-                syncano.getChannelsHistory(channelName).sendAsync(new RxSyncanoListCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.list(syncano, () ->
+                syncano.getChannelsHistory(channelName)));
     }
 
     /**
@@ -1492,7 +2025,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1502,8 +2037,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<Notification> getChannelHistory(Syncano syncano, String channelName, String roomName) {
-        return Observable.create((OnSubscribe<Notification>) subscriber ->
-                syncano.getChannelsHistory(channelName).sendAsync(new RxSyncanoListCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.list(syncano, () ->
+                syncano.getChannelsHistory(channelName, roomName)));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -1516,7 +2051,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1525,8 +2062,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<PushDevice> registerPushDevice(Syncano syncano, PushDevice pushDevice) {
-        return Observable.create((OnSubscribe<PushDevice>) subscriber ->
-                syncano.registerPushDevice(pushDevice).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.registerPushDevice(pushDevice)));
     }
 
     /**
@@ -1535,7 +2072,9 @@ public class SyncanoObservable {
      *
      * <dl>
      *  <dt><b>Scheduler:</b></dt>
-     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Unsubscribing cancels the request.</dd>
      * </dl>
      *
      * @param syncano Syncano instance used in this operation
@@ -1544,8 +2083,8 @@ public class SyncanoObservable {
      * specified function
      */
     public static Observable<PushDevice> deletePushDevice(Syncano syncano, PushDevice pushDevice){
-        return Observable.create((OnSubscribe<PushDevice>) subscriber ->
-                syncano.deletePushDevice(pushDevice).sendAsync(new RxSyncanoCallback<>(subscriber)));
+        return Observable.create(RxSyncanoRequest.single(syncano, () ->
+                syncano.deletePushDevice(pushDevice)));
     }
 
     private SyncanoObservable(){
@@ -0,0 +1,157 @@
+package rx.syncano;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Subscription;
+import rx.observers.TestSubscriber;
+
+import static org.junit.Assert.*;
+
+public class RxSyncanoCircuitBreakerTest {
+
+    private static final IOException NETWORK_ERROR = new IOException("network");
+
+    @Test
+    public void staysClosedBeforeTheMinimumCalls() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(Long.MAX_VALUE);
+        fail(breaker, 3);
+
+        assertEquals(RxSyncanoCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void opensWhenTheFailureRatioIsReached() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(Long.MAX_VALUE);
+        succeed(breaker, 2);
+        fail(breaker, 2);
+
+        assertEquals(RxSyncanoCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void staysClosedBelowTheFailureRatio() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(Long.MAX_VALUE);
+        succeed(breaker, 3);
+        fail(breaker, 1);
+        succeed(breaker, 2);
+
+        assertEquals(RxSyncanoCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void bugsAreNotBackendFailures() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(Long.MAX_VALUE);
+        for(int i = 0; i < 4; i++) {
+            breaker.call(() -> Observable.error(new NullPointerException())).subscribe(new TestSubscriber<>());
+        }
+
+        assertEquals(RxSyncanoCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void opensWhenTheSlowRatioIsReached() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(Long.MAX_VALUE)
+                .setSlowCalls(0.5, 0, TimeUnit.MILLISECONDS);
+        succeed(breaker, 4);
+
+        assertEquals(RxSyncanoCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void failsFastWithoutSendingWhileOpen() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(Long.MAX_VALUE);
+        fail(breaker, 4);
+        boolean[] sent = new boolean[1];
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        breaker.call(() -> {
+            sent[0] = true;
+            return Observable.just(1);
+        }).subscribe(subscriber);
+
+        assertFalse(sent[0]);
+        assertEquals(1, subscriber.getOnErrorEvents().size());
+        assertTrue(subscriber.getOnErrorEvents().get(0) instanceof RxSyncanoCircuitOpenException);
+    }
+
+    @Test
+    public void closesWhenAllProbesSucceed() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(0);
+        fail(breaker, 4);
+        succeed(breaker, 1);
+
+        assertEquals(RxSyncanoCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        succeed(breaker, 1);
+        assertEquals(RxSyncanoCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void reopensWhenAProbeFails() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(0);
+        fail(breaker, 4);
+        succeed(breaker, 1);
+        fail(breaker, 1);
+
+        assertEquals(RxSyncanoCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void sendsOnlyTheConfiguredProbes() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(0);
+        fail(breaker, 4);
+        Subscription first = breaker.call(Observable::never).subscribe(new TestSubscriber<>());
+        breaker.call(Observable::never).subscribe(new TestSubscriber<>());
+        TestSubscriber<Object> rejected = new TestSubscriber<>();
+        breaker.call(Observable::never).subscribe(rejected);
+
+        assertEquals(1, rejected.getOnErrorEvents().size());
+
+        first.unsubscribe();
+        TestSubscriber<Object> replacement = new TestSubscriber<>();
+        breaker.call(Observable::never).subscribe(replacement);
+        assertTrue(replacement.getOnErrorEvents().isEmpty());
+    }
+
+    @Test
+    public void emitsEveryTransition() throws Exception {
+        RxSyncanoCircuitBreaker breaker = breaker(0);
+        List<RxSyncanoCircuitBreaker.State> states = new ArrayList<>();
+        breaker.observeState().subscribe(states::add);
+        fail(breaker, 4);
+        succeed(breaker, 2);
+
+        assertEquals(Arrays.asList(RxSyncanoCircuitBreaker.State.CLOSED,
+                RxSyncanoCircuitBreaker.State.OPEN,
+                RxSyncanoCircuitBreaker.State.HALF_OPEN,
+                RxSyncanoCircuitBreaker.State.CLOSED), states);
+    }
+
+    /**
+     * @return breaker measuring the last 4 requests, opening with half of them failed and
+     * closing after 2 probes
+     */
+    private static RxSyncanoCircuitBreaker breaker(long openMillis) {
+        return new RxSyncanoCircuitBreaker("test")
+                .setWindow(4, 4)
+                .setFailureRatio(0.5)
+                .setRecovery(openMillis, TimeUnit.MILLISECONDS, 2);
+    }
+
+    private static void succeed(RxSyncanoCircuitBreaker breaker, int times) {
+        for(int i = 0; i < times; i++) {
+            breaker.call(() -> Observable.just(1)).subscribe(new TestSubscriber<>());
+        }
+    }
+
+    private static void fail(RxSyncanoCircuitBreaker breaker, int times) {
+        for(int i = 0; i < times; i++) {
+            breaker.call(() -> Observable.error(NETWORK_ERROR)).subscribe(new TestSubscriber<>());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package rx.syncano;
+
+import com.syncano.library.data.SyncanoObject;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import rx.Observable;
+import rx.functions.Func2;
+import rx.observers.TestSubscriber;
+
+import static org.junit.Assert.*;
+
+public class RxSyncanoDiffTest {
+
+    private static final Func2<Item, Item, Boolean> SAME_CONTENT =
+            (oldItem, newItem) -> oldItem.content.equals(newItem.content);
+
+    @Test
+    public void insertsEveryObjectOfTheFirstResultSet() throws Exception {
+        List<RxSyncanoChange<Item>> changes = RxSyncanoDiff.diff(
+                new ArrayList<>(), items(1, 2, 3), SAME_CONTENT);
+
+        assertEquals(3, changes.size());
+        for(int i = 0; i < 3; i++) {
+            assertEquals(RxSyncanoChange.Type.INSERTED, changes.get(i).getType());
+            assertEquals(i, changes.get(i).getPosition());
+        }
+    }
+
+    @Test
+    public void emitsNothingForTheSameResultSet() throws Exception {
+        assertTrue(RxSyncanoDiff.diff(items(1, 2, 3), items(1, 2, 3), SAME_CONTENT).isEmpty());
+    }
+
+    @Test
+    public void movesOnlyTheObjectsOutOfOrder() throws Exception {
+        List<RxSyncanoChange<Item>> changes = RxSyncanoDiff.diff(
+                items(1, 2, 3, 4, 5), items(1, 5, 2, 3, 4), SAME_CONTENT);
+
+        assertEquals(1, changes.size());
+        assertEquals(RxSyncanoChange.Type.MOVED, changes.get(0).getType());
+        assertEquals(4, changes.get(0).getFromPosition());
+        assertEquals(1, changes.get(0).getPosition());
+    }
+
+    @Test
+    public void ordersRemovalsMovesAndChanges() throws Exception {
+        List<Item> newList = items(3, 1, 4);
+        newList.get(1).content = "edited";
+        List<RxSyncanoChange<Item>> changes = RxSyncanoDiff.diff(items(1, 2, 3), newList, SAME_CONTENT);
+
+        List<RxSyncanoChange.Type> types = new ArrayList<>();
+        for(RxSyncanoChange<Item> change: changes) {
+            types.add(change.getType());
+        }
+        assertEquals(Arrays.asList(RxSyncanoChange.Type.REMOVED, RxSyncanoChange.Type.MOVED,
+                RxSyncanoChange.Type.INSERTED, RxSyncanoChange.Type.CHANGED), types);
+        assertEquals(newList, apply(items(1, 2, 3), changes));
+    }
+
+    @Test
+    public void changesTurnRandomResultSetsIntoEachOther() throws Exception {
+        Random random = new Random(42);
+        List<Item> oldList = new ArrayList<>();
+        for(int round = 0; round < 500; round++) {
+            List<Item> newList = shuffle(random, oldList);
+            List<RxSyncanoChange<Item>> changes = RxSyncanoDiff.diff(oldList, newList, SAME_CONTENT);
+
+            assertEquals(newList, apply(oldList, changes));
+            oldList = newList;
+        }
+    }
+
+    @Test
+    public void comparesConsecutiveResultSets() throws Exception {
+        TestSubscriber<RxSyncanoChange<Item>> subscriber = new TestSubscriber<>();
+        Observable.just(items(1, 2), items(2))
+                .compose(RxSyncanoDiff.byId(SAME_CONTENT))
+                .subscribe(subscriber);
+
+        List<RxSyncanoChange<Item>> changes = subscriber.getOnNextEvents();
+        assertEquals(3, changes.size());
+        assertEquals(RxSyncanoChange.Type.REMOVED, changes.get(2).getType());
+        assertEquals(0, changes.get(2).getPosition());
+        assertEquals(1, subscriber.getOnCompletedEvents().size());
+    }
+
+    /**
+     * Applies the changes the way a list adapter does
+     */
+    private static List<Item> apply(List<Item> list, List<RxSyncanoChange<Item>> changes) {
+        List<Item> result = new ArrayList<>(list);
+        for(RxSyncanoChange<Item> change: changes) {
+            switch (change.getType()) {
+                case INSERTED:
+                    result.add(change.getPosition(), change.getObject());
+                    break;
+                case REMOVED:
+                    assertEquals(change.getObject().getId(), result.remove(change.getPosition()).getId());
+                    break;
+                case MOVED:
+                    assertEquals(change.getObject().getId(), result.remove(change.getFromPosition()).getId());
+                    result.add(change.getPosition(), change.getObject());
+                    break;
+                case CHANGED:
+                    assertEquals(change.getObject().getId(), result.get(change.getPosition()).getId());
+                    result.set(change.getPosition(), change.getObject());
+                    break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the list with some objects removed, edited, added and reordered
+     */
+    private static List<Item> shuffle(Random random, List<Item> list) {
+        List<Item> result = new ArrayList<>();
+        for(Item item: list) {
+            if(random.nextInt(5) > 0) {
+                Item copy = new Item(item.getId(), item.content);
+                if(random.nextInt(4) == 0) {
+                    copy.content = item.content + "'";
+                }
+                result.add(copy);
+            }
+        }
+        int added = random.nextInt(6);
+        for(int i = 0; i < added; i++) {
+            int id = 1000 * list.size() + random.nextInt(1000000);
+            result.add(random.nextInt(result.size() + 1), new Item(id, "new"));
+        }
+        for(int i = 0; i < result.size(); i++) {
+            if(random.nextInt(8) == 0) {
+                Collections.swap(result, i, random.nextInt(result.size()));
+            }
+        }
+        List<Item> unique = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        for(Item item: result) {
+            if(!ids.contains(item.getId())) {
+                ids.add(item.getId());
+                unique.add(item);
+            }
+        }
+        return unique;
+    }
+
+    private static List<Item> items(int... ids) {
+        List<Item> items = new ArrayList<>();
+        for(int id: ids) {
+            items.add(new Item(id, "content " + id));
+        }
+        return items;
+    }
+
+    private static class Item extends SyncanoObject {
+        private String content;
+
+        Item(int id, String content) {
+            setId(id);
+            this.content = content;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Item && getId().equals(((Item) o).getId())
+                    && content.equals(((Item) o).content);
+        }
+
+        @Override
+        public int hashCode() {
+            return getId();
+        }
+
+        @Override
+        public String toString() {
+            return getId() + ":" + content;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package rx.syncano;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.observers.TestSubscriber;
+import rx.schedulers.Schedulers;
+
+import static org.junit.Assert.*;
+
+public class RxSyncanoPagesTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Test
+    public void followsThousandsOfSynchronousPages() throws Exception {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        RxSyncanoPages.all(pages(5000, PAGE_SIZE)).subscribe(subscriber);
+
+        subscriber.assertNoErrors();
+        assertEquals(5000 * PAGE_SIZE, subscriber.getOnNextEvents().size());
+        assertEquals(Integer.valueOf(5000 * PAGE_SIZE - 1), last(subscriber.getOnNextEvents()));
+        assertEquals(1, subscriber.getOnCompletedEvents().size());
+    }
+
+    @Test
+    public void followsThousandsOfAsynchronousPages() throws Exception {
+        Func1<String, Observable<RxSyncanoPages.Page<Integer>>> pages = pages(3000, PAGE_SIZE);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        RxSyncanoPages.all(url -> pages.call(url).subscribeOn(Schedulers.computation()))
+                .subscribe(subscriber);
+
+        subscriber.awaitTerminalEvent(30, TimeUnit.SECONDS);
+        subscriber.assertNoErrors();
+        assertEquals(3000 * PAGE_SIZE, subscriber.getOnNextEvents().size());
+        assertEquals(1, subscriber.getOnCompletedEvents().size());
+    }
+
+    @Test
+    public void emitsOnlyRequestedObjectsAndPrefetchesOnePage() throws Exception {
+        List<String> loaded = new ArrayList<>();
+        Func1<String, Observable<RxSyncanoPages.Page<Integer>>> pages = pages(10, PAGE_SIZE);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>() {
+            @Override
+            public void onStart() {
+                request(1);
+            }
+        };
+        RxSyncanoPages.all(url -> {
+            loaded.add(url);
+            return pages.call(url);
+        }).subscribe(subscriber);
+
+        assertEquals(Arrays.asList(0), subscriber.getOnNextEvents());
+        assertEquals(Arrays.asList(null, "1"), loaded);
+
+        subscriber.requestMore(PAGE_SIZE);
+        assertEquals(Arrays.asList(0, 1, 2, 3), subscriber.getOnNextEvents());
+        assertEquals(Arrays.asList(null, "1", "2"), loaded);
+        assertTrue(subscriber.getOnCompletedEvents().isEmpty());
+    }
+
+    @Test
+    public void stopsAtAnEmptyPage() throws Exception {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        RxSyncanoPages.all(url -> Observable.just(url == null
+                ? new RxSyncanoPages.Page<>(Arrays.asList(1, 2), "next")
+                : new RxSyncanoPages.Page<>(new ArrayList<Integer>(), "again")))
+                .subscribe(subscriber);
+
+        subscriber.assertReceivedOnNext(Arrays.asList(1, 2));
+        assertEquals(1, subscriber.getOnCompletedEvents().size());
+    }
+
+    @Test
+    public void forwardsPageErrors() throws Exception {
+        RuntimeException failure = new RuntimeException("page");
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        RxSyncanoPages.all(url -> url == null
+                ? Observable.just(new RxSyncanoPages.Page<>(Arrays.asList(1), "next"))
+                : Observable.<RxSyncanoPages.Page<Integer>>error(failure))
+                .subscribe(subscriber);
+
+        assertEquals(Arrays.asList(failure), subscriber.getOnErrorEvents());
+        assertTrue(subscriber.getOnCompletedEvents().isEmpty());
+    }
+
+    @Test
+    public void unsubscribingCancelsThePrefetchedPage() throws Exception {
+        boolean[] cancelled = new boolean[1];
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>() {
+            @Override
+            public void onStart() {
+                request(1);
+            }
+        };
+        RxSyncanoPages.all(url -> url == null
+                ? Observable.just(new RxSyncanoPages.Page<>(Arrays.asList(1, 2), "next"))
+                : Observable.<RxSyncanoPages.Page<Integer>>never()
+                        .doOnUnsubscribe(() -> cancelled[0] = true))
+                .subscribe(subscriber);
+
+        subscriber.unsubscribe();
+        assertTrue(cancelled[0]);
+    }
+
+    /**
+     * @return pages of consecutive numbers, whose urls are the page numbers
+     */
+    private static Func1<String, Observable<RxSyncanoPages.Page<Integer>>> pages(int count, int size) {
+        return url -> {
+            int page = url == null ? 0 : Integer.parseInt(url);
+            List<Integer> objects = new ArrayList<>();
+            for(int i = 0; i < size; i++) {
+                objects.add(page * size + i);
+            }
+            String next = page + 1 < count ? String.valueOf(page + 1) : null;
+            return Observable.just(new RxSyncanoPages.Page<>(objects, next));
+        };
+    }
+
+    private static <T> T last(List<T> list) {
+        return list.get(list.size() - 1);
+    }
+}
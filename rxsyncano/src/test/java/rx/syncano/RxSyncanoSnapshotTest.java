@@ -0,0 +1,97 @@
+package rx.syncano;
+
+import com.syncano.library.annotation.SyncanoClass;
+import com.syncano.library.data.SyncanoObject;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.List;
+
+import rx.observers.TestSubscriber;
+
+import static org.junit.Assert.*;
+
+public class RxSyncanoSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsTheObjectsWritten() throws Exception {
+        File file = folder.newFile();
+        RxSyncanoSnapshot.write(file, Country.class, Arrays.asList(
+                country(30, "Greece"), country(1, "Portugal"), country(7, "Brazil")));
+
+        RxSyncanoSnapshot<Country> snapshot = RxSyncanoSnapshot.open(file, Country.class);
+        try {
+            assertEquals(3, snapshot.size());
+            assertEquals(Arrays.asList(1, 7, 30), snapshot.getIds());
+            assertEquals("Brazil", snapshot.get(7).name);
+            assertEquals(30, (int) snapshot.get(30).getId());
+            assertNull(snapshot.get(8));
+
+            TestSubscriber<Country> subscriber = new TestSubscriber<>();
+            snapshot.getObjects().subscribe(subscriber);
+            subscriber.assertTerminalEvent();
+            List<Country> countries = subscriber.getOnNextEvents();
+            assertEquals(3, countries.size());
+            assertEquals("Portugal", countries.get(0).name);
+            assertEquals("Greece", countries.get(2).name);
+        }
+        finally {
+            snapshot.close();
+        }
+    }
+
+    @Test
+    public void opensAnEmptySnapshot() throws Exception {
+        File file = folder.newFile();
+        RxSyncanoSnapshot.write(file, Country.class, Arrays.<Country>asList());
+
+        RxSyncanoSnapshot<Country> snapshot = RxSyncanoSnapshot.open(file, Country.class);
+        assertEquals(0, snapshot.size());
+        assertNull(snapshot.get(1));
+        snapshot.close();
+    }
+
+    @Test
+    public void rejectsACorruptedIndex() throws Exception {
+        File file = folder.newFile();
+        RxSyncanoSnapshot.write(file, Country.class, Arrays.asList(country(1, "Portugal"), country(7, "Brazil")));
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            // length of the second object, the last index entry before the trailer
+            randomAccessFile.seek(randomAccessFile.length() - 16 - 4);
+            randomAccessFile.writeInt(Integer.MAX_VALUE);
+        }
+        finally {
+            randomAccessFile.close();
+        }
+
+        try {
+            RxSyncanoSnapshot.open(file, Country.class);
+            fail("opened a corrupted index");
+        }
+        catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("index"));
+        }
+    }
+
+    private static Country country(int id, String name) {
+        Country country = new Country();
+        country.setId(id);
+        country.name = name;
+        return country;
+    }
+
+    @SyncanoClass(name = "country")
+    static class Country extends SyncanoObject {
+        String name;
+    }
+}
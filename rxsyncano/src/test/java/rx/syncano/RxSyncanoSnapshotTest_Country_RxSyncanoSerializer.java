@@ -0,0 +1,47 @@
+package rx.syncano;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Serializer of {@link RxSyncanoSnapshotTest.Country}, as rxsyncano-compiler would generate it
+ */
+public class RxSyncanoSnapshotTest_Country_RxSyncanoSerializer
+        implements RxSyncanoSerializer<RxSyncanoSnapshotTest.Country> {
+
+    private static final int SCHEMA = 0x434f554e;
+
+    @Override
+    public int schema() {
+        return SCHEMA;
+    }
+
+    @Override
+    public void write(RxSyncanoSnapshotTest.Country object, DataOutput out) throws IOException {
+        out.writeInt(SCHEMA);
+        writeFields(object, out);
+    }
+
+    @Override
+    public RxSyncanoSnapshotTest.Country read(DataInput in) throws IOException {
+        if(in.readInt() != SCHEMA) {
+            throw new IOException("Data written with another schema");
+        }
+        return readFields(in);
+    }
+
+    @Override
+    public void writeFields(RxSyncanoSnapshotTest.Country object, DataOutput out) throws IOException {
+        out.writeInt(object.getId());
+        out.writeUTF(object.name);
+    }
+
+    @Override
+    public RxSyncanoSnapshotTest.Country readFields(DataInput in) throws IOException {
+        RxSyncanoSnapshotTest.Country country = new RxSyncanoSnapshotTest.Country();
+        country.setId(in.readInt());
+        country.name = in.readUTF();
+        return country;
+    }
+}
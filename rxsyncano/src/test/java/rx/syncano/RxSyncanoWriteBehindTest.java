@@ -0,0 +1,128 @@
+package rx.syncano;
+
+import com.syncano.library.annotation.SyncanoClass;
+import com.syncano.library.annotation.SyncanoField;
+import com.syncano.library.data.SyncanoObject;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.observers.TestSubscriber;
+import rx.schedulers.TestScheduler;
+import rx.subjects.PublishSubject;
+
+import static org.junit.Assert.*;
+
+public class RxSyncanoWriteBehindTest {
+
+    private final List<Note> sent = new ArrayList<>();
+    private final List<PublishSubject<SyncanoObject>> responses = new ArrayList<>();
+    private final RxSyncanoWriteBehind buffer = new RxSyncanoWriteBehind(null, 1, TimeUnit.HOURS,
+            new TestScheduler(), new RxSyncanoWriteBehind.Update() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <T extends SyncanoObject> Observable<T> call(T object) {
+                    PublishSubject<SyncanoObject> response = PublishSubject.create();
+                    sent.add((Note) object);
+                    responses.add(response);
+                    return (Observable<T>) response;
+                }
+            });
+
+    @Test
+    public void coalescesTheSavesOfAnObject() throws Exception {
+        TestSubscriber<Note> first = new TestSubscriber<>();
+        TestSubscriber<Note> second = new TestSubscriber<>();
+        buffer.save(note("draft", null)).subscribe(first);
+        buffer.save(note("draft", "text")).subscribe(second);
+        buffer.flush().subscribe();
+
+        assertEquals(1, sent.size());
+        assertEquals("draft", sent.get(0).title);
+        assertEquals("text", sent.get(0).body);
+
+        respond(0, note("draft", "text"));
+        first.assertReceivedOnNext(second.getOnNextEvents());
+        assertEquals(1, second.getOnNextEvents().size());
+        second.assertTerminalEvent();
+    }
+
+    @Test
+    public void sendsOnlyTheChangedFieldsAfterASave() throws Exception {
+        buffer.save(note("draft", "text")).subscribe();
+        buffer.flush().subscribe();
+        buffer.save(note("final", "text")).subscribe();
+        buffer.flush().subscribe();
+        respond(0, note("draft", "text"));
+
+        assertEquals(2, sent.size());
+        assertEquals(1, (int) sent.get(1).getId());
+        assertEquals("final", sent.get(1).title);
+        assertNull(sent.get(1).body);
+    }
+
+    @Test
+    public void sendsTheChangesMadeDuringASaveAfterIt() throws Exception {
+        TestSubscriber<SyncanoObject> flush = new TestSubscriber<>();
+        TestSubscriber<Note> later = new TestSubscriber<>();
+        buffer.save(note("draft", "text")).subscribe();
+        buffer.flush().subscribe();
+        buffer.save(note("final", "text")).subscribe(later);
+        buffer.flush().subscribe(flush);
+
+        assertEquals(1, sent.size());
+        respond(0, note("draft", "text"));
+        assertEquals(2, sent.size());
+        assertTrue(flush.getOnCompletedEvents().isEmpty());
+
+        respond(1, note("final", "text"));
+        flush.assertTerminalEvent();
+        flush.assertNoErrors();
+        assertEquals("final", later.getOnNextEvents().get(0).title);
+    }
+
+    @Test
+    public void shutdownSendsThePendingSaves() throws Exception {
+        TestSubscriber<SyncanoObject> shutdown = new TestSubscriber<>();
+        buffer.save(note("draft", "text")).subscribe();
+        buffer.flush().subscribe();
+        buffer.save(note("final", "text")).subscribe();
+        buffer.shutdown().subscribe(shutdown);
+
+        respond(0, note("draft", "text"));
+        assertEquals(2, sent.size());
+        assertTrue(shutdown.getOnCompletedEvents().isEmpty());
+        respond(1, note("final", "text"));
+        shutdown.assertTerminalEvent();
+        shutdown.assertNoErrors();
+
+        TestSubscriber<Note> afterShutdown = new TestSubscriber<>();
+        buffer.save(note("late", "text")).subscribe(afterShutdown);
+        assertTrue(afterShutdown.getOnErrorEvents().get(0) instanceof IllegalStateException);
+    }
+
+    private void respond(int request, Note note) {
+        responses.get(request).onNext(note);
+        responses.get(request).onCompleted();
+    }
+
+    private static Note note(String title, String body) {
+        Note note = new Note();
+        note.setId(1);
+        note.title = title;
+        note.body = body;
+        return note;
+    }
+
+    @SyncanoClass(name = "note")
+    static class Note extends SyncanoObject {
+        @SyncanoField(name = "title")
+        String title;
+        @SyncanoField(name = "body")
+        String body;
+    }
+}
@@ -0,0 +1,129 @@
+package rx.syncano2;
+
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import rx.Observable;
+import rx.Subscriber;
+import rx.syncano.RxSyncanoException;
+
+/**
+ * Exposes the Observables of {@code rxsyncano} as RxJava 2 types, so both artifacts share the
+ * requests, their Schedulers and their cancellation. Disposing the RxJava 2 type unsubscribes
+ * the Observable, and the requests of a Flowable are forwarded to it.
+ */
+final class RxSyncanoInterop {
+
+    private static final int HTTP_NOT_FOUND = 404;
+
+    /**
+     * @param observable Observable to be exposed
+     * @param <T> the type of the items emitted
+     * @return a Flowable that subscribes to the Observable and forwards its requests
+     */
+    static <T> Flowable<T> flowable(Observable<T> observable) {
+        return Flowable.fromPublisher(subscriber -> {
+            Bridge<T> bridge = new Bridge<>(subscriber);
+            subscriber.onSubscribe(bridge.subscription());
+            observable.unsafeSubscribe(bridge);
+        });
+    }
+
+    /**
+     * @param observable Observable with a single item
+     * @param <T> the type of the item emitted
+     * @return a Single with the item of the Observable
+     */
+    static <T> Single<T> single(Observable<T> observable) {
+        return flowable(observable).singleOrError();
+    }
+
+    /**
+     * @param observable Observable with at most one item
+     * @param <T> the type of the item emitted
+     * @return a Maybe with the item of the Observable, that completes empty when the Observable
+     * fails with "404 Not Found"
+     */
+    static <T> Maybe<T> maybe(Observable<T> observable) {
+        return flowable(observable).singleElement()
+                .onErrorResumeNext(throwable -> isNotFound(throwable)
+                        ? Maybe.<T>empty() : Maybe.<T>error(throwable));
+    }
+
+    /**
+     * @param observable Observable whose items are ignored
+     * @return a Completable that completes with the Observable
+     */
+    static Completable completable(Observable<?> observable) {
+        return flowable(observable).ignoreElements();
+    }
+
+    private static boolean isNotFound(Throwable throwable) {
+        return throwable instanceof RxSyncanoException
+                && ((RxSyncanoException) throwable).getHttpCode() == HTTP_NOT_FOUND;
+    }
+
+    /**
+     * Subscribes to the Observable on behalf of a Reactive Streams Subscriber. Null items, like
+     * the data of a deletion, are dropped, as RxJava 2 doesn't allow them
+     */
+    private static final class Bridge<T> extends Subscriber<T> {
+
+        private final org.reactivestreams.Subscriber<? super T> subscriber;
+
+        Bridge(org.reactivestreams.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onStart() {
+            // nothing is emitted before the first request
+            request(0);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if(t == null) {
+                request(1);
+                return;
+            }
+            subscriber.onNext(t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            subscriber.onError(e);
+        }
+
+        @Override
+        public void onCompleted() {
+            subscriber.onComplete();
+        }
+
+        Subscription subscription() {
+            return new Subscription() {
+                @Override
+                public void request(long n) {
+                    if(n <= 0) {
+                        cancel();
+                        subscriber.onError(new IllegalArgumentException("request " + n + ", must be positive"));
+                        return;
+                    }
+                    Bridge.this.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    unsubscribe();
+                }
+            };
+        }
+    }
+
+    private RxSyncanoInterop() {
+        // disable instances
+    }
+}
@@ -0,0 +1,1644 @@
+package rx.syncano2;
+
+import com.google.gson.JsonObject;
+import com.syncano.library.Syncano;
+import com.syncano.library.api.IncrementBuilder;
+import com.syncano.library.api.RequestGet;
+import com.syncano.library.api.Where;
+import com.syncano.library.choice.SocialAuthBackend;
+import com.syncano.library.data.AbstractUser;
+import com.syncano.library.data.Notification;
+import com.syncano.library.data.Profile;
+import com.syncano.library.data.PushDevice;
+import com.syncano.library.data.Script;
+import com.syncano.library.data.ScriptEndpoint;
+import com.syncano.library.data.SyncanoObject;
+import com.syncano.library.data.Trace;
+import com.syncano.library.data.User;
+import com.syncano.library.simple.RequestBuilder;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import rx.syncano.RxSyncanoSchedulers;
+import rx.syncano.SyncanoObservable;
+
+/**
+ * Copyright (C) 2015 8tory, Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * RxJava 2 counterpart of {@link SyncanoObservable}. Calls that answer a single value
+ * return {@link Single}, lookups by id return {@link Maybe} (a missing object completes empty),
+ * deletions return {@link Completable} and lists and channels return {@link Flowable}.
+ *
+ * Every call is adapted from the Observable of {@link SyncanoObservable}, so requests run on the
+ * same Schedulers and disposing cancels them the same way. Failed requests are signalled with
+ * {@link rx.syncano.RxSyncanoException}.
+ */
+public class SyncanoFlowable {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    // SyncanoObject Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Generate the Single that, when an observer subscribes to it, will save the data
+     * object
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param t Data object to be saved
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<T> save(T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.save(t));
+    }
+
+    /**
+     * Generate the Completable that, when an observer subscribes to it, will delete the
+     * data object
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param t Data object to be deleted
+     * @param <T> the type of the object being deleted
+     * @return a Completable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Completable delete(T t) {
+        return RxSyncanoInterop.completable(SyncanoObservable.delete(t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will fetch the
+     * data object
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param t Data object to be fetched
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<T> fetch(T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.fetch(t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will increment some
+     * field from the data object
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t Data object to be fetched
+     * @param incrementBuilder builder used to increment the field
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<T> addition(Syncano syncano, T t, IncrementBuilder incrementBuilder) {
+        return RxSyncanoInterop.single(SyncanoObservable.addition(syncano, t, incrementBuilder));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will increment some
+     * field from the data object referent to id and type passed
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param id identifier used as reference
+     * @param incrementBuilder builder used to increment the field
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<T> addition(Syncano syncano, Class<T> clazz, int id, IncrementBuilder incrementBuilder) {
+        return RxSyncanoInterop.single(SyncanoObservable.addition(syncano, clazz, id, incrementBuilder));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will load an object
+     * using an Syncano instance for it
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t Data object to be fetched loaded
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<T> getObject(Syncano syncano, T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.getObject(syncano, t));
+    }
+
+    /**
+     * Generate the Maybe that, when an observer subscribes to it, will load an object
+     * using an Syncano instance for it
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param id identifier used as reference
+     * @param <T> the type of the item that this Maybe emits
+     * @return a Maybe that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Maybe<T> getObject(Syncano syncano, Class<T> clazz, int id) {
+        return RxSyncanoInterop.maybe(SyncanoObservable.getObject(syncano, clazz, id));
+    }
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will load all data
+     * objects of this class
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param <T> the type of the items that this Flowable emits
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Flowable<T> getObjects(Syncano syncano, Class<T> clazz) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.getObjects(syncano, clazz));
+    }
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will load all data
+     * objects of this class from specific page.
+     * You can get this url by calling ResponseGetList.getNextPageUrl() or getPreviousPageUrl()
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param pageUrl page to request
+     * @param <T> the type of the items that this Flowable emits
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Flowable<T> getObjects(Syncano syncano, Class<T> clazz, String pageUrl) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.getObjects(syncano, clazz, pageUrl));
+    }
+
+    /**
+     * Generate the Flowable that, when a Subscriber subscribes to it, will load all data
+     * objects of this class, following the next page urls until the last page.
+     *
+     * The next page is loaded while the objects of the current one are consumed, and no further
+     * until more objects are requested, so a slow consumer never holds more than two pages in
+     * memory.
+     *
+     * <dl>
+     *  <dt><b>Backpressure:</b></dt>
+     *  <dd>Objects are emitted as requested by the Subscriber. The next page is prefetched
+     *  while the objects of the current one are consumed.</dd>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The requests are sent on the request Scheduler of the Syncano instance and the
+     *  results are delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the requests.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param <T> the type of the items that this Flowable emits
+     * @return a Flowable that, when a Subscriber subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Flowable<T> getAllObjects(Syncano syncano, Class<T> clazz) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.getAllObjects(syncano, clazz));
+    }
+
+    /**
+     * Generate the Completable that, when an observer subscribes to it, will Delete a Data
+     * Object on Syncano using an id as reference
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param id the id of object to be deleted
+     * @param <T> the type of the object being deleted
+     * @return a Completable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Completable deleteObject(Syncano syncano, Class<T> clazz, int id) {
+        return RxSyncanoInterop.completable(SyncanoObservable.deleteObject(syncano, clazz, id));
+    }
+
+    /**
+     * Generate the Completable that, when an observer subscribes to it, will Delete a Data
+     * Object on Syncano
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t Syncano object to be deleted
+     * @param <T> the type of the object being deleted
+     * @return a Completable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Completable deleteObject(Syncano syncano, T t) {
+        return RxSyncanoInterop.completable(SyncanoObservable.deleteObject(syncano, t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Create an
+     * object on Syncano
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t Syncano object to be created
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<T> createObject(Syncano syncano, T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.createObject(syncano, t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Create an
+     * object on Syncano an update the properties of the given object
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t Syncano object to be created
+     * @param updateGivenObject Should update fields in passed object, or only return the new
+     *                          created object
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<T> createObject(Syncano syncano, T t, boolean updateGivenObject) {
+        return RxSyncanoInterop.single(SyncanoObservable.createObject(syncano, t, updateGivenObject));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Update Data
+     * Object on Syncano
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t Syncano object to be updated
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<T> updateObject(Syncano syncano, T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.updateObject(syncano, t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Update Data
+     * Object on Syncano
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t Syncano object to be updated
+     * @param updateGivenObject Should update fields in passed object, or only return the new
+     *                          created object
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<T> updateObject(Syncano syncano, T t, boolean updateGivenObject) {
+        return RxSyncanoInterop.single(SyncanoObservable.updateObject(syncano, t, updateGivenObject));
+    }
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will Get a list of
+     * Data Objects associated with a given Class
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param dataEndpoint name of endpoint to be executed
+     * @param <T> the type of the items that this Flowable emits
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Flowable<T> getObjectsDataEndpoint(Syncano syncano, Class<T> clazz, String dataEndpoint) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.getObjectsDataEndpoint(syncano, clazz, dataEndpoint));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Renders a
+     * template with objects got from given request
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param requestGet request that will be used to get objects
+     * @param templateName name of a template that will be used to render result
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<String> getObjectsWithTemplate(Syncano syncano, RequestGet requestGet, String templateName) {
+        return RxSyncanoInterop.single(SyncanoObservable.getObjectsWithTemplate(syncano, requestGet, templateName));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    // AbstractUser Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Create a new
+     * custom User.
+     *
+     * To be able to register Users you'll have to create an API Key that has allow_user_create flag
+     * set to true.
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param t User to be registered
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> register(T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.register(t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will fetch the user
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param t User to be fetched
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> fetch(T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.fetch(t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will fetch the user
+     * profile
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param u user profile to be fetched
+     * @param <T> type of Profile and item emitted by Single
+     * @param <U> type of Abstract user object
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends Profile, U extends AbstractUser<? extends T>> Single<T> fetchProfile(U u) {
+        return RxSyncanoInterop.single(SyncanoObservable.fetchProfile(u));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will authenticate a
+     * User
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param t user to be authenticated
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> login(T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.login(t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will authenticate a
+     * User from social networks
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param user user to be authenticated
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> loginSocialUser(T user) {
+        return RxSyncanoInterop.single(SyncanoObservable.loginSocialUser(user));
+    }
+
+    /**
+     * Generate the Maybe that, when an observer subscribes to it, will Get details of
+     * previously created User using an id as reference
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param id id used as reference
+     * @param <T> the type of the item that this Maybe emits
+     * @return a Maybe that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Maybe<T> getUser(Syncano syncano, Class<T> clazz, int id) {
+        return RxSyncanoInterop.maybe(SyncanoObservable.getUser(syncano, clazz, id));
+    }
+
+    /**
+     * Generate the Maybe that, when an observer subscribes to it, will Get details of
+     * previously created User using an id as reference
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param id id used as reference
+     * @return a Maybe that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Maybe<User> getUser(Syncano syncano, int id) {
+        return RxSyncanoInterop.maybe(SyncanoObservable.getUser(syncano, id));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Get details of
+     * previously created User
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> fetchCurrentUser(Syncano syncano, Class<T> clazz) {
+        return RxSyncanoInterop.single(SyncanoObservable.fetchCurrentUser(syncano, clazz));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Get details of
+     * previously created User
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param user user to be fetched
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> fetchCurrentUser(Syncano syncano, T user) {
+        return RxSyncanoInterop.single(SyncanoObservable.fetchCurrentUser(syncano, user));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Create a new
+     * custom User
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t user to be created
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> registerUser(Syncano syncano, T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.registerUser(syncano, t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Update a User
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param user user to be updated
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<User> updateUser(Syncano syncano, User user) {
+        return RxSyncanoInterop.single(SyncanoObservable.updateUser(syncano, user));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Update a
+     * custom User
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t object to be updated
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> updateCustomUser(Syncano syncano, T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.updateCustomUser(syncano, t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Authenticate a
+     * User
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t user to log in
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> loginUser(Syncano syncano, T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.loginUser(syncano, t));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Authenticate a
+     * User by username and password
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param username user name from registration.
+     * @param password user password.
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<User> loginUser(Syncano syncano, String username, String password) {
+        return RxSyncanoInterop.single(SyncanoObservable.loginUser(syncano, username, password));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Authenticate a
+     * custom User by username and password
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param username user name from registration.
+     * @param password user password.
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> loginUser(Syncano syncano, Class<T> clazz, String username, String password) {
+        return RxSyncanoInterop.single(SyncanoObservable.loginUser(syncano, clazz, username, password));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will AAuthenticate
+     * a social user
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param clazz Syncano class that will be requested
+     * @param socialAuthBackend social network authentication backend
+     * @param authToken authentication token.
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> loginSocialUser(Syncano syncano, Class<T> clazz, SocialAuthBackend socialAuthBackend, String authToken) {
+        return RxSyncanoInterop.single(SyncanoObservable.loginSocialUser(syncano, clazz, socialAuthBackend, authToken));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will AAuthenticate
+     * a social user
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param socialAuthBackend social network authentication backend
+     * @param authToken authentication token.
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<User> loginSocialUser(Syncano syncano, SocialAuthBackend socialAuthBackend, String authToken) {
+        return RxSyncanoInterop.single(SyncanoObservable.loginSocialUser(syncano, socialAuthBackend, authToken));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will AAuthenticate
+     * a social user
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param t user to log in
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends AbstractUser> Single<T> loginSocialUser(Syncano syncano, T t) {
+        return RxSyncanoInterop.single(SyncanoObservable.loginSocialUser(syncano, t));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    // RequestBuilder and Where Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will Load data with
+     * a predefined Where instance
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param where instance load the objects
+     * @param <T> the type of the items that this Flowable emits
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Flowable<T> get(Where<T> where) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.get(where));
+    }
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will Load data with
+     * a predefined RequestBuilder instance
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param clazz Syncano class that will be requested
+     * @param <T> the type of the items that this Flowable emits
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Flowable<T> get(Class<T> clazz) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.get(clazz));
+    }
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will Load data with
+     * a predefined RequestBuilder instance. Use it when you want to apply limits, filters,
+     * ordering...
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param builder instance load the objects
+     * @param <T> the type of the items that this Flowable emits
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Flowable<T> get(RequestBuilder<T> builder) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.get(builder));
+    }
+
+    /**
+     * Generate the Maybe that, when an observer subscribes to it, will load one
+     * object using an id as reference
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param clazz Syncano class that will be requested.
+     * @param id id of syncano object
+     * @param <T> the type of the item that this Maybe emits
+     * @return a Maybe that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Maybe<T> get(Class<T> clazz, int id) {
+        return RxSyncanoInterop.maybe(SyncanoObservable.get(clazz, id));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will load the count
+     * estimation of a current object.
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param clazz Syncano class that will be requested.
+     * @param <T> the type of the Data Object that will be counted
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T extends SyncanoObject> Single<Integer> getCountEstimation(Class<T> clazz) {
+        return RxSyncanoInterop.single(SyncanoObservable.getCountEstimation(clazz));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    // ScriptEndpoint Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Generate the Single that, when an observer subscribes to it, will run a ScriptEndpoint
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param se Endpoint that will be executed
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> run(ScriptEndpoint se) {
+        return RxSyncanoInterop.single(SyncanoObservable.run(se));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will run a
+     * ScriptEndpoint using an json as payload
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param se endpoint that will be executed
+     * @param payload payload to send
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> run(ScriptEndpoint se, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.run(se, payload));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will run a
+     * ScriptEndpoint. Use this approach when you want to parse the response by yourself
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param se endpoint that will be executed
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<String> runCustomResponse(ScriptEndpoint se) {
+        return RxSyncanoInterop.single(SyncanoObservable.runCustomResponse(se));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will run a
+     * ScriptEndpoint. Use this approach when you want any serialized custom response
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param se endpoint that will be executed
+     * @param clazz Syncano class that will be requested.
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T> Single<T> runCustomResponse(ScriptEndpoint se, Class<T> clazz) {
+        return RxSyncanoInterop.single(SyncanoObservable.runCustomResponse(se, clazz));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will run a
+     * ScriptEndpoint. Use this approach when you want any serialized custom response and
+     * pass any payload as parameter
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param se endpoint that will be executed
+     * @param clazz Syncano class that will be requested.
+     * @param payload payload to send
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T> Single<T> runCustomResponse(ScriptEndpoint se, Class<T> clazz, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.runCustomResponse(se, clazz, payload));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param scriptEndpoint ScriptEndpoint to run
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<String> runScriptEndpointCustomResponse(Syncano syncano, ScriptEndpoint scriptEndpoint) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpointCustomResponse(syncano, scriptEndpoint));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param scriptEndpoint ScriptEndpoint to run
+     * @param payload params to pass to ScriptEndpoint
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<String> runScriptEndpointCustomResponse(Syncano syncano, ScriptEndpoint scriptEndpoint, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpointCustomResponse(syncano, scriptEndpoint, payload));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint with custom responses
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param scriptEndpoint ScriptEndpoint to run
+     * @param clazz Syncano class that will be requested.
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T> Single<T> runScriptEndpointCustomResponse(Syncano syncano, ScriptEndpoint scriptEndpoint, Class<T> clazz) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpointCustomResponse(syncano, scriptEndpoint, clazz));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint with custom responses
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param scriptEndpoint ScriptEndpoint to run
+     * @param clazz Syncano class that will be requested.
+     * @param payload params to pass to ScriptEndpoint
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T> Single<T> runScriptEndpointCustomResponse(Syncano syncano, ScriptEndpoint scriptEndpoint, Class<T> clazz, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpointCustomResponse(syncano, scriptEndpoint, clazz, payload));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint with custom responses
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param name name of ScriptEndpoint
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<String> runScriptEndpointCustomResponse(Syncano syncano, String name) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpointCustomResponse(syncano, name));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint with custom responses
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param name name of ScriptEndpoint to run
+     * @param payload params to pass to ScriptEndpoint
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<String> runScriptEndpointCustomResponse(Syncano syncano, String name, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpointCustomResponse(syncano, name, payload));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint with custom responses
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param name name of ScriptEndpoint to run
+     * @param clazz Syncano class that will be requested.
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T> Single<T> runScriptEndpointCustomResponse(Syncano syncano, String name, Class<T> clazz) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpointCustomResponse(syncano, name, clazz));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint with custom responses
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param name name of ScriptEndpoint to run
+     * @param clazz Syncano class that will be requested.
+     * @param payload params to pass to ScriptEndpoint
+     * @param <T> the type of the item that this Single emits
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static <T> Single<T> runScriptEndpointCustomResponse(Syncano syncano, String name, Class<T> clazz, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpointCustomResponse(syncano, name, clazz, payload));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param scriptEndpoint ScriptEndpoint to run
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> runScriptEndpoint(Syncano syncano, ScriptEndpoint scriptEndpoint) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpoint(syncano, scriptEndpoint));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param scriptEndpoint ScriptEndpoint to run
+     * @param payload params to pass to ScriptEndpoint
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> runScriptEndpoint(Syncano syncano, ScriptEndpoint scriptEndpoint, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpoint(syncano, scriptEndpoint, payload));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param name name of ScriptEndpoint to run
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> runScriptEndpoint(Syncano syncano, String name) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpoint(syncano, name));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run a
+     * ScriptEndpoint
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param name name of ScriptEndpoint to run
+     * @param payload params to pass to ScriptEndpoint
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> runScriptEndpoint(Syncano syncano, String name, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScriptEndpoint(syncano, name, payload));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    // Script Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run Script
+     * asynchronously
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param script script to run
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> run(Script script) {
+        return RxSyncanoInterop.single(SyncanoObservable.run(script));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run Script
+     * asynchronously
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param script script to run
+     * @param payload params params to pass to Script
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> run(Script script, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.run(script, payload));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run Script
+     * asynchronously
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param id id of syncano script to run
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> runScript(Syncano syncano, int id) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScript(syncano, id));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run Script
+     * asynchronously
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param id id of syncano script to run
+     * @param payload params params to pass to Script
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> runScript(Syncano syncano, int id, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScript(syncano, id, payload));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run Script
+     * asynchronously
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param script syncano script to run
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> runScript(Syncano syncano, Script script) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScript(syncano, script));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Run Script
+     * asynchronously
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param script syncano script to run
+     * @param payload params params to pass to Script
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> runScript(Syncano syncano, Script script, JsonObject payload) {
+        return RxSyncanoInterop.single(SyncanoObservable.runScript(syncano, script, payload));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    // Trace Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will fetch an trace
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the default Syncano instance, which
+     *  the call uses, and the result is delivered on its callback Scheduler, see
+     *  {@link RxSyncanoSchedulers}. Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param trace trace to be fetched
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> fetch(Trace trace) {
+        return RxSyncanoInterop.single(SyncanoObservable.fetch(trace));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Get trace,
+     * result of Script execution. Refreshes values in given trace object.
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param trace object to be loaded
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> getTrace(Syncano syncano, Trace trace) {
+        return RxSyncanoInterop.single(SyncanoObservable.getTrace(syncano, trace));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Get trace,
+     * result of Script execution. Refreshes values in given trace object.
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param scriptId id of script executed
+     * @param traceId id of trace to be loaded
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Trace> getTrace(Syncano syncano, int scriptId, int traceId) {
+        return RxSyncanoInterop.single(SyncanoObservable.getTrace(syncano, scriptId, traceId));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    // Channel Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will start a
+     * channel connection. When the returned observable was be unsubscribed the channel connection will
+     * be stopped
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param channelName name of channel to be connected
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Flowable<Notification> startChannelConnection(Syncano syncano, String channelName) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.startChannelConnection(syncano, channelName));
+    }
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will start a
+     * channel connection. When the returned observable was be unsubscribed the channel connection will
+     * be stopped
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param channelName name of channel to be connected
+     * @param roomName name of room to connect
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Flowable<Notification> startChannelConnection(Syncano syncano, String channelName, String roomName) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.startChannelConnection(syncano, channelName, roomName));
+    }
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will start a
+     * channel connection. When the returned observable was be unsubscribed the channel connection will
+     * be stopped
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>{@code create} does not operate by default on a particular Scheduler.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param channelName name of channel to be connected
+     * @param roomName name of room to connect
+     * @param lastId last notification id
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Flowable<Notification> startChannelConnection(Syncano syncano, String channelName, String roomName, int lastId) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.startChannelConnection(syncano, channelName, roomName, lastId));
+    }
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will Publish custom
+     * message
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param channelName name of channel to be connected
+     * @param notification notification to be published
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<Notification> publishOnChannel(Syncano syncano, String channelName, Notification notification) {
+        return RxSyncanoInterop.single(SyncanoObservable.publishOnChannel(syncano, channelName, notification));
+    }
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will Get a list of
+     * Notifications
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param channelName name of channel to be connected
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Flowable<Notification> getChannelHistory(Syncano syncano, String channelName) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.getChannelHistory(syncano, channelName));
+    }
+
+    /**
+     * Generate the Flowable that, when an observer subscribes to it, will Get a list of
+     * Notifications
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param channelName name of channel to be connected
+     * @param roomName name of room to connect
+     * @return a Flowable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Flowable<Notification> getChannelHistory(Syncano syncano, String channelName, String roomName) {
+        return RxSyncanoInterop.flowable(SyncanoObservable.getChannelHistory(syncano, channelName, roomName));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+    // PushDevice Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Generate the Single that, when an observer subscribes to it, will register a
+     * push device to send and receive push notifications
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param pushDevice device to be registered
+     * @return a Single that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Single<PushDevice> registerPushDevice(Syncano syncano, PushDevice pushDevice) {
+        return RxSyncanoInterop.single(SyncanoObservable.registerPushDevice(syncano, pushDevice));
+    }
+
+    /**
+     * Generate the Completable that, when an observer subscribes to it, will delete a push
+     * device
+     *
+     * <dl>
+     *  <dt><b>Scheduler:</b></dt>
+     *  <dd>The request is sent on the request Scheduler of the Syncano instance and the result
+     *  is delivered on its callback Scheduler, see {@link RxSyncanoSchedulers}.
+     *  Disposing cancels the request.</dd>
+     * </dl>
+     *
+     * @param syncano Syncano instance used in this operation
+     * @param pushDevice device to be deleted
+     * @return a Completable that, when an observer subscribes to it, will execute the
+     * specified function
+     */
+    public static Completable deletePushDevice(Syncano syncano, PushDevice pushDevice) {
+        return RxSyncanoInterop.completable(SyncanoObservable.deletePushDevice(syncano, pushDevice));
+    }
+
+    private SyncanoFlowable(){
+        // disable instances
+    }
+}
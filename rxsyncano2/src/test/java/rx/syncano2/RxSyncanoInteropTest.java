@@ -0,0 +1,78 @@
+package rx.syncano2;
+
+import com.syncano.library.api.Response;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import io.reactivex.subscribers.TestSubscriber;
+import rx.Observable;
+import rx.syncano.RxSyncanoException;
+
+import static org.junit.Assert.*;
+
+public class RxSyncanoInteropTest {
+
+    @Test
+    public void disposingUnsubscribesTheObservable() throws Exception {
+        boolean[] unsubscribed = new boolean[2];
+        RxSyncanoInterop.flowable(Observable.never().doOnUnsubscribe(() -> unsubscribed[0] = true))
+                .test()
+                .cancel();
+        RxSyncanoInterop.single(Observable.never().doOnUnsubscribe(() -> unsubscribed[1] = true))
+                .test()
+                .dispose();
+
+        assertTrue(unsubscribed[0]);
+        assertTrue(unsubscribed[1]);
+    }
+
+    @Test
+    public void forwardsTheRequestedAmount() throws Exception {
+        TestSubscriber<Integer> subscriber = RxSyncanoInterop.flowable(Observable.range(0, 10)).test(0);
+        subscriber.assertNoValues();
+
+        subscriber.request(3);
+        subscriber.assertValues(0, 1, 2).assertNotComplete();
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertValueCount(10).assertComplete();
+    }
+
+    @Test
+    public void dropsNullItems() throws Exception {
+        RxSyncanoInterop.flowable(Observable.just(null, 1, null, 2)).test(2)
+                .assertValues(1, 2);
+        RxSyncanoInterop.completable(Observable.just(null)).test()
+                .assertComplete();
+    }
+
+    @Test
+    public void singleFailsWithoutAnItem() throws Exception {
+        RxSyncanoInterop.single(Observable.empty()).test()
+                .assertError(NoSuchElementException.class);
+    }
+
+    @Test
+    public void maybeCompletesEmptyWhenNotFound() throws Exception {
+        RxSyncanoInterop.maybe(Observable.error(exception(404))).test()
+                .assertNoValues()
+                .assertComplete();
+        RxSyncanoInterop.maybe(Observable.just(1)).test()
+                .assertValue(1);
+    }
+
+    @Test
+    public void maybeForwardsOtherErrors() throws Exception {
+        RxSyncanoException error = exception(500);
+        RxSyncanoInterop.maybe(Observable.error(error)).test()
+                .assertError(error);
+    }
+
+    private static RxSyncanoException exception(int httpCode) {
+        Response<Object> response = new Response<>();
+        response.setHttpResultCode(httpCode);
+        return new RxSyncanoException(response);
+    }
+}